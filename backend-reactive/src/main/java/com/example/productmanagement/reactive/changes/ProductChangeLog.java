@@ -0,0 +1,40 @@
+package com.example.productmanagement.reactive.changes;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Writes the product_changes rows the servlet backend polls to evict its near caches and refresh
+ * its suggestion index. Runs inside the caller's transaction so the row commits with the product write.
+ */
+@Component
+public class ProductChangeLog {
+
+    public static final String CREATED = "CREATED";
+    public static final String UPDATED = "UPDATED";
+    public static final String DELETED = "DELETED";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final DatabaseClient databaseClient;
+
+    public ProductChangeLog(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Mono<Void> record(Long productId, String changeType) {
+        return databaseClient.sql("INSERT INTO product_changes (product_id, change_type, origin, changed_at) "
+                        + "VALUES (:productId, :changeType, :origin, :changedAt)")
+                .bind("productId", productId)
+                .bind("changeType", changeType)
+                .bind("origin", nodeId)
+                .bind("changedAt", LocalDateTime.now())
+                .then();
+    }
+}
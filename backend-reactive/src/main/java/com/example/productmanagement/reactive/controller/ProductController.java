@@ -0,0 +1,122 @@
+package com.example.productmanagement.reactive.controller;
+
+import com.example.productmanagement.reactive.dto.PageResponse;
+import com.example.productmanagement.reactive.dto.ProductRequest;
+import com.example.productmanagement.reactive.dto.ProductResponse;
+import com.example.productmanagement.reactive.entity.Product;
+import com.example.productmanagement.reactive.service.ProductService;
+import jakarta.validation.Valid;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/products")
+public class ProductController {
+
+    private final ProductService productService;
+
+    public ProductController(ProductService productService) {
+        this.productService = productService;
+    }
+
+    // Create a new product
+    @PostMapping
+    public Mono<ResponseEntity<ProductResponse>> createProduct(@Valid @RequestBody ProductRequest request) {
+        return Mono.fromCallable(() -> convertToEntity(request))
+                .flatMap(productService::createProduct)
+                .map(created -> ResponseEntity.status(HttpStatus.CREATED).body(convertToResponse(created)));
+    }
+
+    // Get all products with pagination + sorting + search
+    @GetMapping
+    public Mono<PageResponse<ProductResponse>> getAllProducts(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "100") int size,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(required = false) String search) {
+
+        Pageable pageable = PageRequest.of(page, size, toSort(sortBy, sortDir));
+
+        Mono<PageResponse<Product>> productPage = search != null && !search.trim().isEmpty()
+                ? productService.searchProducts(search.trim(), pageable)
+                : productService.getAllProducts(pageable);
+
+        return productPage.map(result -> new PageResponse<>(
+                result.content().stream().map(this::convertToResponse).toList(),
+                result.number(), result.size(), result.totalElements(), result.totalPages(),
+                result.first(), result.last(), result.numberOfElements(), result.empty()));
+    }
+
+    // Stream every product as newline-delimited JSON; rows are read only as fast as the client consumes them
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ProductResponse> streamProducts(
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir) {
+        return productService.streamProducts(toSort(sortBy, sortDir)).map(this::convertToResponse);
+    }
+
+    // Get product by ID
+    @GetMapping("/{id}")
+    public Mono<ProductResponse> getProductById(@PathVariable Long id) {
+        return productService.getProductById(id).map(this::convertToResponse);
+    }
+
+    // Update product
+    @PutMapping("/{id}")
+    public Mono<ProductResponse> updateProduct(@PathVariable Long id, @Valid @RequestBody ProductRequest request) {
+        return Mono.fromCallable(() -> convertToEntity(request))
+                .flatMap(product -> productService.updateProduct(id, product))
+                .map(this::convertToResponse);
+    }
+
+    // Delete product
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteProduct(@PathVariable Long id) {
+        return productService.deleteProduct(id).then(Mono.just(ResponseEntity.noContent().build()));
+    }
+
+    // Check stock availability
+    @GetMapping("/{id}/stock")
+    public Mono<Boolean> checkStockAvailability(
+            @PathVariable Long id,
+            @RequestParam Integer quantity) {
+        return productService.checkStockAvailability(id, quantity);
+    }
+
+    private Sort toSort(String sortBy, String sortDir) {
+        return sortDir.equalsIgnoreCase("desc")
+                ? Sort.by(sortBy).descending()
+                : Sort.by(sortBy).ascending();
+    }
+
+    // Helper methods for DTO conversion
+    private Product convertToEntity(ProductRequest request) {
+        return Product.builder()
+                .name(request.getName())
+                .description(request.getDescription())
+                .price(request.getPriceAsBigDecimal())
+                .quantity(request.getQuantity())
+                .build();
+    }
+
+    private ProductResponse convertToResponse(Product product) {
+        return ProductResponse.builder()
+                .id(product.getId())
+                .name(product.getName())
+                .description(product.getDescription())
+                .price(product.getPrice())
+                .quantity(product.getQuantity())
+                .createdAt(product.getCreatedAt())
+                .updatedAt(product.getUpdatedAt())
+                .version(product.getVersion())
+                .build();
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.productmanagement.reactive.dto;
+
+import java.util.List;
+
+// Same JSON shape the servlet backend returns for Page<ProductResponse>, so the frontend works against either
+public record PageResponse<T>(List<T> content, int number, int size, long totalElements, int totalPages,
+                              boolean first, boolean last, int numberOfElements, boolean empty) {
+
+    public static <T> PageResponse<T> of(List<T> content, int page, int size, long totalElements) {
+        int totalPages = size == 0 ? 1 : (int) Math.ceil((double) totalElements / size);
+        return new PageResponse<>(content, page, size, totalElements, totalPages,
+                page == 0, page + 1 >= totalPages, content.size(), content.isEmpty());
+    }
+}
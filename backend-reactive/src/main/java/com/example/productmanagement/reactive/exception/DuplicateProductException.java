@@ -0,0 +1,11 @@
+package com.example.productmanagement.reactive.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class DuplicateProductException extends RuntimeException {
+    public DuplicateProductException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.productmanagement.reactive.repository;
+
+import com.example.productmanagement.reactive.entity.Product;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface ProductRepository extends R2dbcRepository<Product, Long> {
+
+    // Check if product exists by name (case-insensitive)
+    @Query("SELECT COUNT(*) > 0 FROM products WHERE LOWER(name) = LOWER(:name)")
+    Mono<Boolean> existsByNameIgnoreCase(String name);
+
+    // Paginated listing
+    Flux<Product> findAllBy(Pageable pageable);
+
+    // Unbounded listing for streaming, rows are pulled as the client consumes them
+    Flux<Product> findAllBy(Sort sort);
+
+    // Paginated search across name and description
+    Flux<Product> findByNameContainingIgnoreCaseOrDescriptionContainingIgnoreCase(
+            String name, String description, Pageable pageable);
+
+    Mono<Long> countByNameContainingIgnoreCaseOrDescriptionContainingIgnoreCase(String name, String description);
+}
@@ -0,0 +1,35 @@
+package com.example.productmanagement.reactive.service;
+
+import com.example.productmanagement.reactive.dto.PageResponse;
+import com.example.productmanagement.reactive.entity.Product;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ProductService {
+
+
+    Mono<Product> createProduct(Product product);
+
+
+    Mono<PageResponse<Product>> getAllProducts(Pageable pageable);
+
+
+    Mono<PageResponse<Product>> searchProducts(String searchTerm, Pageable pageable);
+
+
+    Flux<Product> streamProducts(Sort sort);
+
+
+    Mono<Product> getProductById(Long id);
+
+
+    Mono<Product> updateProduct(Long id, Product product);
+
+
+    Mono<Void> deleteProduct(Long id);
+
+    // Stock availability check
+    Mono<Boolean> checkStockAvailability(Long productId, Integer requestedQuantity);
+}
@@ -0,0 +1,135 @@
+package com.example.productmanagement.reactive.service.impl;
+
+import com.example.productmanagement.reactive.changes.ProductChangeLog;
+import com.example.productmanagement.reactive.dto.PageResponse;
+import com.example.productmanagement.reactive.entity.Product;
+import com.example.productmanagement.reactive.exception.DuplicateProductException;
+import com.example.productmanagement.reactive.exception.ProductNotFoundException;
+import com.example.productmanagement.reactive.repository.ProductRepository;
+import com.example.productmanagement.reactive.service.ProductService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Service
+@Transactional
+public class ProductServiceImpl implements ProductService {
+
+    private final ProductRepository productRepository;
+    private final ProductChangeLog changeLog;
+
+    public ProductServiceImpl(ProductRepository productRepository, ProductChangeLog changeLog) {
+        this.productRepository = productRepository;
+        this.changeLog = changeLog;
+    }
+
+    @Override
+    public Mono<Product> createProduct(Product product) {
+        String productName = product.getName() != null ? product.getName().trim() : "";
+        if (productName.isEmpty()) {
+            return Mono.error(new IllegalArgumentException("Product name cannot be empty"));
+        }
+        product.setName(productName);
+
+        return productRepository.existsByNameIgnoreCase(productName)
+                .flatMap(exists -> {
+                    if (exists) {
+                        log.warn("Product with name '{}' already exists", productName);
+                        return Mono.error(new DuplicateProductException(
+                                "A product with the name '" + productName + "' already exists. Please use a different name."));
+                    }
+                    return productRepository.save(product);
+                })
+                .flatMap(saved -> changeLog.record(saved.getId(), ProductChangeLog.CREATED).thenReturn(saved))
+                .doOnNext(saved -> log.info("Product created successfully - ID: {}, Name: '{}'",
+                        saved.getId(), saved.getName()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Mono<PageResponse<Product>> getAllProducts(Pageable pageable) {
+        return productRepository.findAllBy(pageable)
+                .collectList()
+                .zipWith(productRepository.count())
+                .map(result -> PageResponse.of(result.getT1(), pageable.getPageNumber(),
+                        pageable.getPageSize(), result.getT2()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Mono<PageResponse<Product>> searchProducts(String searchTerm, Pageable pageable) {
+        return productRepository
+                .findByNameContainingIgnoreCaseOrDescriptionContainingIgnoreCase(searchTerm, searchTerm, pageable)
+                .collectList()
+                .zipWith(productRepository
+                        .countByNameContainingIgnoreCaseOrDescriptionContainingIgnoreCase(searchTerm, searchTerm))
+                .map(result -> PageResponse.of(result.getT1(), pageable.getPageNumber(),
+                        pageable.getPageSize(), result.getT2()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Flux<Product> streamProducts(Sort sort) {
+        // Request rows from the driver in bounded chunks instead of unbounded demand
+        return productRepository.findAllBy(sort).limitRate(500);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Mono<Product> getProductById(Long id) {
+        return productRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new ProductNotFoundException("Product not found with ID: " + id)));
+    }
+
+    @Override
+    public Mono<Product> updateProduct(Long id, Product product) {
+        if (product.getQuantity() < 0) {
+            return Mono.error(new IllegalArgumentException("Product quantity cannot be negative"));
+        }
+
+        return getProductById(id)
+                .flatMap(existing -> {
+                    // Check for duplicate name if name is being changed
+                    Mono<Boolean> duplicate = existing.getName().equalsIgnoreCase(product.getName())
+                            ? Mono.just(false)
+                            : productRepository.existsByNameIgnoreCase(product.getName());
+
+                    return duplicate.flatMap(exists -> {
+                        if (exists) {
+                            String errorMessage = String.format("Product with name '%s' already exists", product.getName());
+                            log.warn("Duplicate product name during update: {}", errorMessage);
+                            return Mono.error(new DuplicateProductException(errorMessage));
+                        }
+                        existing.setName(product.getName());
+                        existing.setDescription(product.getDescription());
+                        existing.setPrice(product.getPrice());
+                        existing.setQuantity(product.getQuantity());
+                        return productRepository.save(existing);
+                    });
+                })
+                .flatMap(updated -> changeLog.record(id, ProductChangeLog.UPDATED).thenReturn(updated))
+                .doOnNext(updated -> log.info("Updated product with ID: {}", id));
+    }
+
+    @Override
+    public Mono<Void> deleteProduct(Long id) {
+        return productRepository.existsById(id)
+                .flatMap(exists -> exists
+                        ? productRepository.deleteById(id).then(changeLog.record(id, ProductChangeLog.DELETED))
+                        : Mono.error(new ProductNotFoundException("Product not found with id: " + id)))
+                .doOnSuccess(ignored -> log.info("Product deleted successfully with ID: {}", id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Mono<Boolean> checkStockAvailability(Long productId, Integer quantity) {
+        return productRepository.findById(productId)
+                .switchIfEmpty(Mono.error(() -> new ProductNotFoundException("Product not found with id: " + productId)))
+                .map(product -> product.getQuantity() >= quantity);
+    }
+}
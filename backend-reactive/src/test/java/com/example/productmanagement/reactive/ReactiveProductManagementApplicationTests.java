@@ -0,0 +1,13 @@
+package com.example.productmanagement.reactive;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(classes = com.example.productmanagement.reactive.ReactiveProductManagementApplication.class)
+class ReactiveProductManagementApplicationTests {
+
+	@Test
+	void contextLoads() {
+	}
+
+}
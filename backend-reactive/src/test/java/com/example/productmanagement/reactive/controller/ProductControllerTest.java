@@ -0,0 +1,198 @@
+package com.example.productmanagement.reactive.controller;
+
+import com.example.productmanagement.reactive.dto.ProductResponse;
+import com.example.productmanagement.reactive.entity.Product;
+import com.example.productmanagement.reactive.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.doAnswer;
+
+// Same /products contract as the servlet backend, against an in-memory database
+@SpringBootTest(classes = com.example.productmanagement.reactive.ReactiveProductManagementApplication.class)
+@AutoConfigureWebTestClient
+class ProductControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @MockitoSpyBean
+    private ProductRepository productRepository;
+
+    private List<Product> products;
+
+    @BeforeEach
+    void setUp() {
+        databaseClient.sql("DELETE FROM product_changes").then().block();
+        databaseClient.sql("DELETE FROM products").then().block();
+
+        // Item 01 .. Item 12, priced 1.00 .. 12.00 with stock 0 .. 11
+        products = productRepository.saveAll(IntStream.rangeClosed(1, 12)
+                .mapToObj(i -> product(String.format("Item %02d", i), i == 4 ? "Desk lamp shade" : "Plain item", i, i - 1))
+                .toList()).collectList().block();
+        productRepository.save(product("Lamp Classic", "Reading light", 20, 5)).block();
+    }
+
+    @Test
+    void pagesAreSortedAndCounted() {
+        webTestClient.get().uri("/products?page=1&size=5&sortBy=price&sortDir=desc")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content.length()").isEqualTo(5)
+                .jsonPath("$.content[0].name").isEqualTo("Item 08")
+                .jsonPath("$.content[4].name").isEqualTo("Item 04")
+                .jsonPath("$.number").isEqualTo(1)
+                .jsonPath("$.totalElements").isEqualTo(13)
+                .jsonPath("$.totalPages").isEqualTo(3)
+                .jsonPath("$.first").isEqualTo(false)
+                .jsonPath("$.last").isEqualTo(false);
+    }
+
+    @Test
+    void searchMatchesNameOrDescriptionIgnoringCase() {
+        webTestClient.get().uri("/products?search=LAMP&sortBy=name")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.totalElements").isEqualTo(2)
+                .jsonPath("$.content[0].name").isEqualTo("Item 04")
+                .jsonPath("$.content[1].name").isEqualTo("Lamp Classic");
+    }
+
+    @Test
+    void streamReturnsEveryRowAsNdjson() {
+        // More rows than one limitRate chunk, so the stream has to request several times
+        List<Product> more = new ArrayList<>();
+        for (int i = 0; i < 1200; i++) {
+            more.add(product("Stream " + i, "Streamed item", 1, 1));
+        }
+        productRepository.saveAll(more).then().block();
+
+        List<ProductResponse> streamed = webTestClient.get().uri("/products/stream")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(ProductResponse.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertEquals(1213, streamed.size());
+        assertEquals(products.get(0).getId(), streamed.get(0).getId());
+    }
+
+    @Test
+    void stockCheckComparesWithQuantity() {
+        Long id = products.get(5).getId();
+        webTestClient.get().uri("/products/{id}/stock?quantity=5", id)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(Boolean.class).isEqualTo(true);
+        webTestClient.get().uri("/products/{id}/stock?quantity=6", id)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(Boolean.class).isEqualTo(false);
+    }
+
+    @Test
+    void missingProductsAreNotFound() {
+        webTestClient.get().uri("/products/999999").exchange().expectStatus().isNotFound();
+        webTestClient.get().uri("/products/999999/stock?quantity=1").exchange().expectStatus().isNotFound();
+        webTestClient.delete().uri("/products/999999").exchange().expectStatus().isNotFound();
+    }
+
+    @Test
+    void duplicateNameConflicts() {
+        webTestClient.post().uri("/products")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request("item 01", 1))
+                .exchange()
+                .expectStatus().isEqualTo(409);
+
+        assertEquals(0, changeRows().size());
+    }
+
+    @Test
+    void concurrentUpdateConflicts() {
+        Long id = products.get(0).getId();
+        // Another writer bumps the version after this update has read the row
+        doAnswer(invocation -> databaseClient.sql("UPDATE products SET version = version + 1 WHERE id = :id")
+                .bind("id", id)
+                .then()
+                .thenReturn(false))
+                .when(productRepository).existsByNameIgnoreCase("Renamed Item");
+
+        webTestClient.put().uri("/products/{id}", id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request("Renamed Item", 3))
+                .exchange()
+                .expectStatus().isEqualTo(409);
+
+        assertEquals(0, changeRows().size());
+    }
+
+    @Test
+    void writesRecordChangesAndBumpVersions() {
+        Long created = webTestClient.post().uri("/products")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request("New Item", 2))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(ProductResponse.class)
+                .returnResult()
+                .getResponseBody()
+                .getId();
+
+        webTestClient.put().uri("/products/{id}", created)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request("New Item", 7))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.quantity").isEqualTo(7)
+                .jsonPath("$.version").isEqualTo(1);
+
+        webTestClient.delete().uri("/products/{id}", created).exchange().expectStatus().isNoContent();
+
+        List<Map<String, Object>> changes = changeRows();
+        assertEquals(List.of("CREATED", "UPDATED", "DELETED"), changes.stream().map(row -> row.get("change_type")).toList());
+        changes.forEach(row -> assertEquals(created, ((Number) row.get("product_id")).longValue()));
+    }
+
+    private List<Map<String, Object>> changeRows() {
+        return databaseClient.sql("SELECT product_id, change_type FROM product_changes ORDER BY id")
+                .fetch().all().collectList().block();
+    }
+
+    private static Product product(String name, String description, int price, int quantity) {
+        return Product.builder()
+                .name(name)
+                .description(description)
+                .price(new BigDecimal(price + ".00"))
+                .quantity(quantity)
+                .build();
+    }
+
+    private static Map<String, Object> request(String name, int quantity) {
+        return Map.of("name", name, "description", "Test item", "price", "9.99", "quantity", quantity);
+    }
+}
@@ -2,8 +2,12 @@ package com.example.productmanagement;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableAsync
+@EnableScheduling
 public class ProductManagementApplication {
 
     public static void main(String[] args) {
@@ -12,4 +16,4 @@ public class ProductManagementApplication {
 
 
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,41 @@
+package com.example.productmanagement.cache;
+
+import com.example.productmanagement.entity.ProductChange;
+import com.example.productmanagement.event.ProductChangedEvent;
+import com.example.productmanagement.repository.ProductChangeRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+// Records product writes for other nodes and notifies listeners on this node
+@Component
+public class ProductChangeOutbox {
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final ProductChangeRepository changeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ProductChangeOutbox(ProductChangeRepository changeRepository, ApplicationEventPublisher eventPublisher) {
+        this.changeRepository = changeRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    // Must join the caller's transaction so the change row commits (or rolls back) with the product write
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Long productId, ProductChangedEvent.ChangeType type) {
+        changeRepository.save(ProductChange.builder()
+                .productId(productId)
+                .changeType(type)
+                .origin(nodeId)
+                .build());
+        eventPublisher.publishEvent(new ProductChangedEvent(productId, type));
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+}
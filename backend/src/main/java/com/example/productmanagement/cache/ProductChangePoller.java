@@ -0,0 +1,88 @@
+package com.example.productmanagement.cache;
+
+import com.example.productmanagement.entity.ProductChange;
+import com.example.productmanagement.event.ProductChangedEvent;
+import com.example.productmanagement.repository.ProductChangeRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Replays product changes written by other nodes as {@link ProductChangedEvent}s so local
+ * caches evict them within one poll interval.
+ */
+@Slf4j
+@Component
+public class ProductChangePoller {
+
+    private final ProductChangeRepository changeRepository;
+    private final ProductChangeOutbox outbox;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.cache.poll-batch-size:1000}")
+    private int batchSize;
+
+    // Auto-increment ids can commit out of order, so each poll re-reads a few ids behind the last one seen
+    @Value("${app.cache.poll-overlap:100}")
+    private long overlap;
+
+    @Value("${app.cache.change-retention-minutes:10}")
+    private long retentionMinutes;
+
+    private long lastSeenId;
+
+    // Ids already replayed inside the overlap window
+    private final TreeSet<Long> recentlySeen = new TreeSet<>();
+
+    public ProductChangePoller(ProductChangeRepository changeRepository, ProductChangeOutbox outbox,
+                               ApplicationEventPublisher eventPublisher) {
+        this.changeRepository = changeRepository;
+        this.outbox = outbox;
+        this.eventPublisher = eventPublisher;
+    }
+
+    // Taken before the context is ready, so changes from other nodes that commit while the near cache and
+    // suggestion index start filling are replayed by the first poll instead of being skipped
+    @PostConstruct
+    public synchronized void start() {
+        lastSeenId = changeRepository.findMaxId();
+    }
+
+    @Scheduled(fixedDelayString = "${app.cache.poll-interval-ms:500}",
+            initialDelayString = "${app.cache.poll-interval-ms:500}")
+    public synchronized void poll() {
+        List<ProductChange> changes;
+        long from = Math.max(0, lastSeenId - overlap);
+        do {
+            changes = changeRepository.findByIdGreaterThanOrderByIdAsc(from, PageRequest.of(0, batchSize));
+            for (ProductChange change : changes) {
+                if (recentlySeen.add(change.getId()) && !outbox.getNodeId().equals(change.getOrigin())) {
+                    eventPublisher.publishEvent(new ProductChangedEvent(change.getProductId(), change.getChangeType()));
+                }
+                from = change.getId();
+            }
+        } while (changes.size() == batchSize);
+
+        if (from > lastSeenId) {
+            lastSeenId = from;
+        }
+        recentlySeen.headSet(lastSeenId - overlap).clear();
+    }
+
+    @Scheduled(fixedDelayString = "${app.cache.prune-interval-ms:60000}",
+            initialDelayString = "${app.cache.prune-interval-ms:60000}")
+    public void prune() {
+        int deleted = changeRepository.deleteOlderThan(LocalDateTime.now().minusMinutes(retentionMinutes));
+        if (deleted > 0) {
+            log.debug("Pruned {} product change rows", deleted);
+        }
+    }
+}
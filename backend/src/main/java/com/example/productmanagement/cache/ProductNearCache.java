@@ -0,0 +1,55 @@
+package com.example.productmanagement.cache;
+
+import com.example.productmanagement.entity.Product;
+import com.example.productmanagement.event.ProductChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Per-node cache of product lookups by id. Entries are evicted after local writes commit
+ * and when {@link ProductChangePoller} sees a change made by another node. The write
+ * expiry bounds staleness if an invalidation is ever missed.
+ */
+@Slf4j
+@Component
+public class ProductNearCache {
+
+    private final Cache<Long, Product> products;
+
+    public ProductNearCache(@Value("${app.cache.product.maximum-size:10000}") long maximumSize,
+                            @Value("${app.cache.product.expire-after-write-seconds:30}") long expireAfterWriteSeconds) {
+        this.products = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .build();
+    }
+
+    // Loads inside the cache's compute, so an eviction racing with the load waits for it and
+    // then removes the value instead of being overwritten by a stale put
+    public Optional<Product> get(Long id, Function<Long, Optional<Product>> loader) {
+        return Optional.ofNullable(products.get(id, key -> loader.apply(key).orElse(null)));
+    }
+
+    public void evict(Long id) {
+        products.invalidate(id);
+    }
+
+    public void clear() {
+        products.invalidateAll();
+    }
+
+    // fallbackExecution: events replayed by the poller are published outside a transaction
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        log.debug("Evicting product {} after {}", event.productId(), event.type());
+        evict(event.productId());
+    }
+}
@@ -1,28 +1,40 @@
 package com.example.productmanagement.config;
 
+import com.example.productmanagement.cache.ProductChangeOutbox;
 import com.example.productmanagement.entity.Product;
+import com.example.productmanagement.event.ProductChangedEvent;
 import com.example.productmanagement.repository.ProductRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
 
+// Seeds sample data once the app is ready, on a background thread, so it stays off the startup path
 @Component
-public class DataInitializer implements CommandLineRunner {
+@Profile("!generate")
+public class DataInitializer {
 
     private static final Logger logger = LoggerFactory.getLogger(DataInitializer.class);
     private final ProductRepository productRepository;
+    private final ProductChangeOutbox changeOutbox;
 
 
-    public DataInitializer(ProductRepository productRepository) {
+    public DataInitializer(ProductRepository productRepository, ProductChangeOutbox changeOutbox) {
         this.productRepository = productRepository;
+        this.changeOutbox = changeOutbox;
     }
 
-    @Override
-    public void run(String... args) throws Exception {
+    @Async
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void run() {
         logger.info("Initializing sample data...");
 
         if (productRepository.count() > 0) {
@@ -153,7 +165,9 @@ public class DataInitializer implements CommandLineRunner {
                         .build()
         );
 
-        productRepository.saveAll(products);
+        // Recorded like any other create so caches and the suggestion index on every node pick them up
+        productRepository.saveAll(products)
+                .forEach(saved -> changeOutbox.record(saved.getId(), ProductChangedEvent.ChangeType.CREATED));
         logger.info("Sample data initialization completed successfully.");
     }
 }
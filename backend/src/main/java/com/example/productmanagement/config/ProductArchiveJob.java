@@ -0,0 +1,39 @@
+package com.example.productmanagement.config;
+
+import com.example.productmanagement.service.ProductArchiveService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Background archival of dead stock, one transaction per batch so locks stay short
+@Component
+@ConditionalOnProperty(name = "app.archive.enabled", havingValue = "true")
+public class ProductArchiveJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductArchiveJob.class);
+    private final ProductArchiveService archiveService;
+
+    @Value("${app.archive.max-batches-per-run:1000}")
+    private int maxBatchesPerRun;
+
+    public ProductArchiveJob(ProductArchiveService archiveService) {
+        this.archiveService = archiveService;
+    }
+
+    @Scheduled(cron = "${app.archive.cron:0 0 3 * * *}")
+    public void run() {
+        long start = System.nanoTime();
+        long total = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            int moved = archiveService.archiveBatch();
+            if (moved == 0) {
+                break;
+            }
+            total += moved;
+        }
+        logger.info("Archive run completed: {} products archived in {} ms", total, (System.nanoTime() - start) / 1_000_000);
+    }
+}
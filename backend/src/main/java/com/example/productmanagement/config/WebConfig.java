@@ -1,37 +1,49 @@
 package com.example.productmanagement.config;
 
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.servlet.config.annotation.CorsRegistry;
-import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
-import org.springframework.lang.NonNull;
+import org.springframework.core.Ordered;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import org.springframework.web.filter.CorsFilter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 @Configuration
-public class WebConfig implements WebMvcConfigurer {
-
-    @Override
-    public void addCorsMappings(@NonNull CorsRegistry registry) {
-        String[] allowedOrigins = {
-            "http://localhost:5173", 
-            "http://localhost:5174", 
-            "http://localhost:3000",
-        };
-        
+public class WebConfig {
+
+    // Runs as the first servlet filter, so responses written by other filters (load shedding) carry CORS headers too
+    @Bean
+    public FilterRegistrationBean<CorsFilter> corsFilter() {
+        List<String> allowedOrigins = new ArrayList<>(List.of(
+            "http://localhost:5173",
+            "http://localhost:5174",
+            "http://localhost:3000"
+        ));
+
         // Support environment variable for additional origins
         String additionalOrigins = System.getenv("ALLOWED_ORIGINS");
         if (additionalOrigins != null && !additionalOrigins.trim().isEmpty()) {
-            String[] envOrigins = additionalOrigins.split(",");
-            String[] combinedOrigins = new String[allowedOrigins.length + envOrigins.length];
-            System.arraycopy(allowedOrigins, 0, combinedOrigins, 0, allowedOrigins.length);
-            System.arraycopy(envOrigins, 0, combinedOrigins, allowedOrigins.length, envOrigins.length);
-            allowedOrigins = combinedOrigins;
+            allowedOrigins.addAll(Arrays.asList(additionalOrigins.split(",")));
         }
-        
-        registry.addMapping("/**")
-                .allowedOrigins(allowedOrigins)
-                .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
-                .allowedHeaders("*")
-                .exposedHeaders("Authorization", "Content-Type", "Content-Disposition")
-                .allowCredentials(true)
-                .maxAge(3600);
+
+        CorsConfiguration config = new CorsConfiguration();
+        config.setAllowedOrigins(allowedOrigins);
+        config.setAllowedMethods(List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
+        config.setAllowedHeaders(List.of("*"));
+        config.setExposedHeaders(List.of("Authorization", "Content-Type", "Content-Disposition", "Retry-After",
+                "Server-Timing", "X-Request-Id"));
+        config.setAllowCredentials(true);
+        config.setMaxAge(3600L);
+
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/**", config);
+
+        FilterRegistrationBean<CorsFilter> registration = new FilterRegistrationBean<>(new CorsFilter(source));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
     }
 }
@@ -0,0 +1,51 @@
+package com.example.productmanagement.controller;
+
+import com.example.productmanagement.dto.Response.ProductResponse;
+import com.example.productmanagement.entity.ArchivedProduct;
+import com.example.productmanagement.entity.Product;
+import com.example.productmanagement.service.ProductArchiveService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/products/archived")
+public class ProductArchiveController {
+
+    private final ProductArchiveService archiveService;
+
+    public ProductArchiveController(ProductArchiveService archiveService) {
+        this.archiveService = archiveService;
+    }
+
+    // Get archived product by ID
+    @GetMapping("/{id}")
+    public ResponseEntity<ProductResponse> getArchivedProduct(@PathVariable Long id) {
+        ArchivedProduct archived = archiveService.getArchivedProduct(id);
+        return ResponseEntity.ok(ProductResponse.builder()
+                .id(archived.getId())
+                .name(archived.getName())
+                .description(archived.getDescription())
+                .price(archived.getPrice())
+                .quantity(archived.getQuantity())
+                .createdAt(archived.getCreatedAt())
+                .updatedAt(archived.getUpdatedAt())
+                .version(archived.getVersion())
+                .build());
+    }
+
+    // Move an archived product back into the active catalog
+    @PostMapping("/{id}/restore")
+    public ResponseEntity<ProductResponse> restoreProduct(@PathVariable Long id) {
+        Product product = archiveService.restoreProduct(id);
+        return ResponseEntity.ok(ProductResponse.builder()
+                .id(product.getId())
+                .name(product.getName())
+                .description(product.getDescription())
+                .price(product.getPrice())
+                .quantity(product.getQuantity())
+                .createdAt(product.getCreatedAt())
+                .updatedAt(product.getUpdatedAt())
+                .version(product.getVersion())
+                .build());
+    }
+}
@@ -1,21 +1,28 @@
 package com.example.productmanagement.controller;
 
+import com.example.productmanagement.dto.Request.ProductPatchRequest;
 import com.example.productmanagement.dto.Request.ProductRequest;
 import com.example.productmanagement.dto.Response.ProductResponse;
+import com.example.productmanagement.dto.Response.ProductSuggestion;
 import com.example.productmanagement.entity.Product;
 import com.example.productmanagement.service.ProductService;
+import com.example.productmanagement.suggest.ProductSuggestionIndex;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.TransactionException;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/products")
 public class ProductController {
@@ -23,9 +30,11 @@ public class ProductController {
     private static final Logger logger = LoggerFactory.getLogger(ProductController.class);
 
     private final ProductService productService;
+    private final ProductSuggestionIndex suggestionIndex;
 
-    public ProductController(ProductService productService) {
+    public ProductController(ProductService productService, ProductSuggestionIndex suggestionIndex) {
         this.productService = productService;
+        this.suggestionIndex = suggestionIndex;
     }
 
     // Create a new product
@@ -71,12 +80,30 @@ public class ProductController {
             // Convert Page<Product> to Page<ProductResponse>
             Page<ProductResponse> responsePage = productPage.map(this::convertToResponse);
             return ResponseEntity.ok(responsePage);
+        } catch (DataAccessException | TransactionException e) {
+            // Let GlobalExceptionHandler turn database overload into a 503
+            throw e;
         } catch (Exception e) {
             logger.error("Error retrieving products", e);
             return ResponseEntity.internalServerError().build();
         }
     }
 
+    // Typeahead suggestions by name prefix, served from memory and ranked by stock
+    @GetMapping("/suggest")
+    public ResponseEntity<List<ProductSuggestion>> suggestProducts(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<ProductSuggestion> suggestions = suggestionIndex.suggest(prefix, limit).stream()
+                .map(hit -> ProductSuggestion.builder()
+                        .id(hit.id())
+                        .name(hit.name())
+                        .quantity(hit.score())
+                        .build())
+                .toList();
+        return ResponseEntity.ok(suggestions);
+    }
+
     // Get product by ID
     @GetMapping("/{id}")
     public ResponseEntity<ProductResponse> getProductById(@PathVariable Long id) {
@@ -97,6 +124,25 @@ public class ProductController {
         return ResponseEntity.ok(response);
     }
 
+    // Partially update product; "Prefer: return=minimal" skips reading the row back
+    @PatchMapping("/{id}")
+    public ResponseEntity<ProductResponse> patchProduct(@PathVariable Long id,
+                                                        @Valid @RequestBody ProductPatchRequest request,
+                                                        @RequestHeader(value = "Prefer", required = false) String prefer) {
+        Product changes = Product.builder()
+                .name(request.getName())
+                .description(request.getDescription())
+                .price(request.getPriceAsBigDecimal())
+                .quantity(request.getQuantity())
+                .build();
+        productService.patchProduct(id, changes, request.getVersion());
+
+        if (prefer != null && prefer.contains("return=minimal")) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(convertToResponse(productService.getProductById(id)));
+    }
+
     // Delete product
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteProduct(@PathVariable Long id) {
@@ -114,6 +160,14 @@ public class ProductController {
         return ResponseEntity.ok(available);
     }
 
+    // Add or remove stock; 409 if a decrement would take it below zero
+    @PostMapping("/{id}/stock/adjust")
+    public ResponseEntity<Integer> adjustStock(
+            @PathVariable Long id,
+            @RequestParam Integer delta) {
+        return ResponseEntity.ok(productService.adjustStock(id, delta));
+    }
+
     // Helper methods for DTO conversion
     private Product convertToEntity(ProductRequest request) {
         return Product.builder()
@@ -133,6 +187,7 @@ public class ProductController {
                 .quantity(product.getQuantity())
                 .createdAt(product.getCreatedAt())
                 .updatedAt(product.getUpdatedAt())
+                .version(product.getVersion())
                 .build();
     }
 }
@@ -0,0 +1,44 @@
+package com.example.productmanagement.dto.Request;
+
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+// Partial update: null fields are left unchanged
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductPatchRequest {
+
+    @Size(min = 2, max = 100, message = "Product name must be between 2 and 100 characters")
+    private String name;
+
+    @Size(min = 2, max = 500, message = "Product description must be between 2 and 500 characters")
+    private String description;
+
+    @Pattern(regexp = "^\\d+\\.?\\d{0,2}$", message = "Invalid price format. Use up to 2 decimal places")
+    private String price;
+
+    @Min(value = 0, message = "Quantity cannot be negative")
+    private Integer quantity;
+
+    // Version the client last saw; when present the update only applies if it still matches
+    private Long version;
+
+
+    public BigDecimal getPriceAsBigDecimal() {
+        if (price == null) {
+            return null;
+        }
+        try {
+            return new BigDecimal(price);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid price format: " + price);
+        }
+    }
+}
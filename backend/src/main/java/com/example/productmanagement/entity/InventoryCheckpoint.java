@@ -0,0 +1,28 @@
+package com.example.productmanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+// Last inventory journal segment whose deltas reached the products table, one row per ledger
+@Entity
+@Table(name = "inventory_checkpoints")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InventoryCheckpoint {
+
+    @Id
+    @Column(name = "ledger_name", length = 64)
+    private String ledgerName;
+
+    @Column(name = "segment", nullable = false)
+    private Long segment;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
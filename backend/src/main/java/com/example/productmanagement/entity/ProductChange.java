@@ -0,0 +1,36 @@
+package com.example.productmanagement.entity;
+
+import com.example.productmanagement.event.ProductChangedEvent;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+// Change log row written in the same transaction as the product write; other nodes poll it to evict their caches
+@Entity
+@Table(name = "product_changes", indexes = @Index(name = "idx_product_changes_changed_at", columnList = "changed_at"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 16)
+    private ProductChangedEvent.ChangeType changeType;
+
+    @Column(name = "origin", nullable = false, length = 36)
+    private String origin;
+
+    @CreationTimestamp
+    @Column(name = "changed_at", nullable = false, updatable = false)
+    private LocalDateTime changedAt;
+}
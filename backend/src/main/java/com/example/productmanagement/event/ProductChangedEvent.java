@@ -0,0 +1,11 @@
+package com.example.productmanagement.event;
+
+// Published after a product is created, updated or deleted, on this node or (via the change poller) on another one
+public record ProductChangedEvent(Long productId, ChangeType type) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
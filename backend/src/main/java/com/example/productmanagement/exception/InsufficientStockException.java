@@ -0,0 +1,11 @@
+package com.example.productmanagement.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class InsufficientStockException extends RuntimeException {
+    public InsufficientStockException(Long productId, long available, long delta) {
+        super(String.format("Insufficient stock for product %d: %d available, %d requested", productId, available, -delta));
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.productmanagement.generator;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic synthetic product rows. Row {@code i} only depends on the seed and
+ * {@code i}, so a catalog can be generated by any number of threads in any order
+ * and still come out identical.
+ */
+public class CatalogGenerator {
+
+    private static final String[] ADJECTIVES = {
+            "Premium", "Compact", "Wireless", "Portable", "Ergonomic", "Smart", "Ultra", "Pro",
+            "Classic", "Rugged", "Slim", "Deluxe", "Eco", "Heavy-Duty", "Mini", "Advanced",
+            "Essential", "Modular", "Silent", "Foldable", "Digital", "Vintage", "Hybrid", "Turbo"
+    };
+
+    private static final String[] MATERIALS = {
+            "Aluminum", "Bamboo", "Carbon", "Ceramic", "Leather", "Steel", "Glass", "Cotton",
+            "Titanium", "Walnut", "Silicone", "Nylon", "Copper", "Oak", "Marble", "Wool"
+    };
+
+    private static final String[] NOUNS = {
+            "Laptop", "Headphones", "Keyboard", "Mouse", "Monitor", "Speaker", "Webcam", "Router",
+            "Tablet", "Smartwatch", "Charger", "Backpack", "Desk Lamp", "Microphone", "Printer",
+            "Drone", "Camera", "Tripod", "Power Bank", "Hard Drive", "Blender", "Kettle",
+            "Coffee Maker", "Water Bottle", "Chair", "Desk", "Shelf", "Jacket", "Sneakers", "Watch"
+    };
+
+    private static final String[] FEATURES = {
+            "long battery life", "fast charging", "noise cancellation", "a water-resistant finish",
+            "a two-year warranty", "Bluetooth 5.3", "USB-C connectivity", "an adjustable stand",
+            "a scratch-resistant surface", "energy-efficient operation", "a lightweight frame",
+            "app control", "a detachable cable", "a travel case", "tool-free assembly"
+    };
+
+    private static final String[] AUDIENCES = {
+            "home offices", "gamers", "travelers", "students", "creative professionals",
+            "outdoor use", "small businesses", "everyday use", "fitness enthusiasts", "kitchens"
+    };
+
+    // Fixed reference point keeps timestamps reproducible across runs
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final int HISTORY_DAYS = 3 * 365;
+
+    private final long seed;
+
+    public CatalogGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    public CatalogRow row(long index) {
+        SplittableRandom random = new SplittableRandom(seed * 0x9E3779B97F4A7C15L + index);
+
+        String noun = pick(random, NOUNS);
+        String name = pick(random, ADJECTIVES) + " " + pick(random, MATERIALS) + " " + noun
+                + " " + Long.toString(index, 36).toUpperCase();
+
+        String description = noun + " with " + pick(random, FEATURES) + " and " + pick(random, FEATURES)
+                + ". Designed for " + pick(random, AUDIENCES) + ".";
+
+        LocalDateTime createdAt = EPOCH.minusMinutes(random.nextLong(HISTORY_DAYS * 24L * 60L));
+        LocalDateTime updatedAt = createdAt.plusMinutes(random.nextLong(90L * 24L * 60L));
+
+        return new CatalogRow(name, description, price(random), quantity(random), createdAt, updatedAt);
+    }
+
+    // Log-normal around ~40 with .99 endings, like a real catalog
+    private static BigDecimal price(SplittableRandom random) {
+        double raw = Math.exp(Math.log(40) + random.nextGaussian());
+        double whole = Math.max(0, Math.min(99_999, Math.floor(raw)));
+        return BigDecimal.valueOf(whole + 0.99).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    // Roughly 8% out of stock, the rest heavy-tailed
+    private static int quantity(SplittableRandom random) {
+        if (random.nextInt(100) < 8) {
+            return 0;
+        }
+        double pareto = 1 / Math.pow(1 - random.nextDouble(), 1 / 1.2);
+        return (int) Math.min(10_000, Math.ceil(pareto * 5));
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    public record CatalogRow(String name, String description, BigDecimal price, int quantity,
+                             LocalDateTime createdAt, LocalDateTime updatedAt) {
+    }
+}
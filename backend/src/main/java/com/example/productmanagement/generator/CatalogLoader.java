@@ -0,0 +1,198 @@
+package com.example.productmanagement.generator;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Loads a synthetic catalog for scale testing. Enabled with the {@code generate} profile, e.g.
+ * {@code java -jar app.jar --spring.profiles.active=generate --catalog.size=5000000 --catalog.seed=7}.
+ */
+@Slf4j
+@Component
+@Profile("generate")
+public class CatalogLoader implements ApplicationRunner {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO products (id, name, description, price, quantity, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationContext applicationContext;
+
+    @Value("${catalog.size:1000000}")
+    private long size;
+
+    @Value("${catalog.seed:42}")
+    private long seed;
+
+    // batch: multi-row inserts via rewriteBatchedStatements, infile: LOAD DATA LOCAL INFILE
+    @Value("${catalog.mode:batch}")
+    private String mode;
+
+    @Value("${catalog.batch-size:5000}")
+    private int batchSize;
+
+    @Value("${catalog.threads:4}")
+    private int threads;
+
+    @Value("${catalog.truncate:false}")
+    private boolean truncate;
+
+    // Without truncate, a non-empty table is only loaded into when appending is explicitly requested
+    @Value("${catalog.append:false}")
+    private boolean append;
+
+    @Value("${catalog.exit-on-complete:true}")
+    private boolean exitOnComplete;
+
+    public CatalogLoader(JdbcTemplate jdbcTemplate, ApplicationContext applicationContext) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (truncate) {
+            log.info("Truncating products table before load");
+            jdbcTemplate.execute("TRUNCATE TABLE products");
+        }
+
+        // Row i gets id firstId + i, so on an empty table the same seed gives the same id -> row mapping
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM products", Long.class);
+        if (maxId != null && !append) {
+            throw new IllegalStateException("products table is not empty (max id " + maxId
+                    + "); set catalog.truncate=true to replace it or catalog.append=true to add to it");
+        }
+        long firstId = maxId == null ? 1 : maxId + 1;
+
+        log.info("Generating catalog: size={}, seed={}, mode={}, batchSize={}, threads={}, firstId={}",
+                size, seed, mode, batchSize, threads, firstId);
+        CatalogGenerator generator = new CatalogGenerator(seed);
+
+        long start = System.nanoTime();
+        if ("infile".equalsIgnoreCase(mode)) {
+            loadFromFile(generator, firstId);
+        } else {
+            loadInBatches(generator, firstId);
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        log.info("Catalog load completed: {} rows in {} s ({} rows/s, {} rows/min)",
+                size, String.format("%.1f", seconds),
+                Math.round(size / seconds), Math.round(size / seconds * 60));
+
+        if (exitOnComplete) {
+            System.exit(SpringApplication.exit(applicationContext, () -> 0));
+        }
+    }
+
+    private void loadInBatches(CatalogGenerator generator, long firstId) throws Exception {
+        AtomicLong nextBatch = new AtomicLong();
+        AtomicLong loaded = new AtomicLong();
+        long batches = (size + batchSize - 1) / batchSize;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                workers.add(executor.submit(() -> {
+                    long batch;
+                    while ((batch = nextBatch.getAndIncrement()) < batches) {
+                        long from = batch * batchSize;
+                        long to = Math.min(size, from + batchSize);
+                        insertBatch(generator, firstId, from, to);
+
+                        long total = loaded.addAndGet(to - from);
+                        if (total / 1_000_000 != (total - (to - from)) / 1_000_000) {
+                            log.info("Loaded {} / {} rows", total, size);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void insertBatch(CatalogGenerator generator, long firstId, long from, long to) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(@NonNull PreparedStatement ps, int i) throws SQLException {
+                CatalogGenerator.CatalogRow row = generator.row(from + i);
+                ps.setLong(1, firstId + from + i);
+                ps.setString(2, row.name());
+                ps.setString(3, row.description());
+                ps.setBigDecimal(4, row.price());
+                ps.setInt(5, row.quantity());
+                ps.setTimestamp(6, Timestamp.valueOf(row.createdAt()));
+                ps.setTimestamp(7, Timestamp.valueOf(row.updatedAt()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return (int) (to - from);
+            }
+        });
+    }
+
+    private void loadFromFile(CatalogGenerator generator, long firstId) throws IOException {
+        Path file = Files.createTempFile("catalog-" + seed + "-", ".tsv");
+        try {
+            long start = System.nanoTime();
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                for (long i = 0; i < size; i++) {
+                    CatalogGenerator.CatalogRow row = generator.row(i);
+                    writer.write(Long.toString(firstId + i));
+                    writer.write('\t');
+                    writer.write(row.name());
+                    writer.write('\t');
+                    writer.write(row.description());
+                    writer.write('\t');
+                    writer.write(row.price().toPlainString());
+                    writer.write('\t');
+                    writer.write(Integer.toString(row.quantity()));
+                    writer.write('\t');
+                    writer.write(Timestamp.valueOf(row.createdAt()).toString());
+                    writer.write('\t');
+                    writer.write(Timestamp.valueOf(row.updatedAt()).toString());
+                    writer.write('\n');
+                }
+            }
+            log.info("Generated {} ({} MB) in {} ms", file, Files.size(file) / (1024 * 1024),
+                    (System.nanoTime() - start) / 1_000_000);
+
+            jdbcTemplate.execute("LOAD DATA LOCAL INFILE '" + file.toAbsolutePath().toString().replace("\\", "/")
+                    + "' INTO TABLE products FIELDS TERMINATED BY '\\t' LINES TERMINATED BY '\\n'"
+                    + " (id, name, description, price, quantity, created_at, updated_at)");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
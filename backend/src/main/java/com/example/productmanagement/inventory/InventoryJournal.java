@@ -0,0 +1,197 @@
+package com.example.productmanagement.inventory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal for one ledger stripe. Each segment is a file of fixed 20-byte records:
+ * product id (8), delta (8) and a CRC32 of both (4). A failed append moves the stripe to a new
+ * part file of the same segment. Not thread-safe; the owning stripe's lock guards every append.
+ */
+public class InventoryJournal {
+
+    static final int RECORD_SIZE = 20;
+
+    private static final Pattern SEGMENT_FILE = Pattern.compile("segment-(\\d+)-(\\d+)(?:-(\\d+))?\\.log");
+
+    private final Path directory;
+    private final int stripe;
+    private final ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+    private final CRC32 crc = new CRC32();
+
+    private FileChannel channel;
+    private long openSegment = -1;
+    private long fileLength;
+
+    // Part files of the current segment, one more after each failed append
+    private long partSegment = -1;
+    private int part;
+
+    public InventoryJournal(Path directory, int stripe) {
+        this.directory = directory;
+        this.stripe = stripe;
+    }
+
+    // The write reaches the OS before this returns, so it survives a process crash; force() covers power loss
+    public void append(long segment, long productId, long delta) throws IOException {
+        if (segment != openSegment) {
+            closeQuietly(detach());
+            if (segment != partSegment) {
+                partSegment = segment;
+                part = 0;
+            }
+            channel = FileChannel.open(directory.resolve(fileName(segment, stripe, part)),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            openSegment = segment;
+            fileLength = channel.size();
+        }
+
+        record.clear();
+        record.putLong(productId).putLong(delta);
+        crc.reset();
+        crc.update(record.array(), 0, 16);
+        record.putInt((int) crc.getValue());
+        record.flip();
+        try {
+            write(channel, record);
+            fileLength += RECORD_SIZE;
+        } catch (IOException e) {
+            // Replay stops at the first bad record, so a partial one must never precede later records
+            try {
+                channel.truncate(fileLength);
+            } catch (IOException ignored) {
+                // The next part file starts clean either way
+            }
+            closeQuietly(detach());
+            part++;
+            throw e;
+        }
+    }
+
+    // Separate so tests can fail a write halfway
+    protected void write(FileChannel channel, ByteBuffer record) throws IOException {
+        while (record.hasRemaining()) {
+            channel.write(record);
+        }
+    }
+
+    // Hands the open file to the caller, who forces and closes it outside the stripe lock
+    public FileChannel detach() {
+        FileChannel detached = channel;
+        channel = null;
+        openSegment = -1;
+        return detached;
+    }
+
+    public FileChannel currentChannel() {
+        return channel;
+    }
+
+    static String fileName(long segment, int stripe, int part) {
+        return part == 0
+                ? String.format("segment-%016d-%03d.log", segment, stripe)
+                : String.format("segment-%016d-%03d-%d.log", segment, stripe, part);
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // Nothing left to write through it
+        }
+    }
+
+    /**
+     * Sums the deltas of every segment after {@code afterSegment}, across all stripes. A file
+     * ends at its first short or corrupt record: that is a write torn by the crash, never acknowledged.
+     */
+    public static Replay replay(Path directory, long afterSegment) {
+        Map<Long, Long> deltas = new HashMap<>();
+        long maxSegment = afterSegment;
+        long records = 0;
+        int tornFiles = 0;
+
+        for (SegmentFile file : segmentFiles(directory)) {
+            if (file.segment() <= afterSegment) {
+                continue;
+            }
+            maxSegment = Math.max(maxSegment, file.segment());
+
+            ByteBuffer buffer;
+            try {
+                buffer = ByteBuffer.wrap(Files.readAllBytes(file.path()));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot read inventory journal " + file.path(), e);
+            }
+            CRC32 crc = new CRC32();
+            while (buffer.remaining() >= RECORD_SIZE) {
+                int start = buffer.position();
+                long productId = buffer.getLong();
+                long delta = buffer.getLong();
+                int checksum = buffer.getInt();
+                crc.reset();
+                crc.update(buffer.array(), start, 16);
+                if ((int) crc.getValue() != checksum) {
+                    buffer.position(start);
+                    break;
+                }
+                deltas.merge(productId, delta, Long::sum);
+                records++;
+            }
+            if (buffer.hasRemaining()) {
+                tornFiles++;
+            }
+        }
+        deltas.values().removeIf(delta -> delta == 0);
+        return new Replay(maxSegment, deltas, records, tornFiles);
+    }
+
+    public static void deleteThrough(Path directory, long segment) {
+        for (SegmentFile file : segmentFiles(directory)) {
+            if (file.segment() <= segment) {
+                try {
+                    Files.deleteIfExists(file.path());
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Cannot delete inventory journal " + file.path(), e);
+                }
+            }
+        }
+    }
+
+    private static List<SegmentFile> segmentFiles(Path directory) {
+        List<SegmentFile> files = new ArrayList<>();
+        try (Stream<Path> paths = Files.list(directory)) {
+            paths.forEach(path -> {
+                Matcher matcher = SEGMENT_FILE.matcher(path.getFileName().toString());
+                if (matcher.matches()) {
+                    files.add(new SegmentFile(Long.parseLong(matcher.group(1)), path));
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list inventory journal directory " + directory, e);
+        }
+        return files;
+    }
+
+    private record SegmentFile(long segment, Path path) {
+    }
+
+    public record Replay(long maxSegment, Map<Long, Long> deltas, long records, int tornFiles) {
+    }
+}
@@ -0,0 +1,450 @@
+package com.example.productmanagement.inventory;
+
+import com.example.productmanagement.event.ProductChangedEvent;
+import com.example.productmanagement.event.ProductChangedEvent.ChangeType;
+import com.example.productmanagement.exception.InsufficientStockException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+
+/**
+ * Write-behind stock ledger for SKUs that take thousands of changes per second. A change is checked
+ * against an in-memory counter, appended to a local journal and acknowledged without touching the
+ * database. A scheduled flush writes the net delta per product in one transaction together with a
+ * checkpoint, and on startup any journal segment past the checkpoint is replayed.
+ * <p>
+ * Writers are spread over stripes, each with its own journal file and delta map, so concurrent
+ * changes to one SKU only contend on its counter. Counters are per node: run the ledger on the node
+ * that owns the hot SKUs, other nodes catch up through the change log.
+ * <p>
+ * Flush and fsync run on the ledger's own threads, so their intervals hold while the shared
+ * {@code @Scheduled} thread is busy with an index rebuild or an archive run.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.inventory.ledger.enabled", havingValue = "true")
+public class InventoryLedger {
+
+    private final InventoryStore store;
+    private final Path directory;
+    private final String ledgerName;
+    private final Stripe[] stripes;
+
+    private final ConcurrentHashMap<Long, AtomicLong> counters = new ConcurrentHashMap<>();
+    private final AtomicInteger nextStripe = new AtomicInteger();
+    private final ThreadLocal<Stripe> threadStripe;
+
+    // Held for a whole flush; resyncs take it too so they never see half-applied deltas
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    // Deltas of a failed flush, retried with the next one
+    private Map<Long, Long> carried = new HashMap<>();
+    private volatile long segment;
+    private volatile Thread flushThread;
+
+    @Value("${app.inventory.ledger.flush-interval-ms:200}")
+    private long flushIntervalMs;
+
+    @Value("${app.inventory.ledger.fsync-interval-ms:100}")
+    private long fsyncIntervalMs;
+
+    // Minimum time between two product_changes rows for one product, unless its stock reaches or leaves zero
+    @Value("${app.inventory.ledger.change-interval-ms:1000}")
+    private long changeIntervalMs;
+
+    // When each product last got a change log row (System.nanoTime), and products flushed since without one;
+    // only touched under flushLock
+    private final Map<Long, Long> lastChangeRow = new HashMap<>();
+    private final Set<Long> withoutChangeRow = new HashSet<>();
+
+    private ScheduledExecutorService scheduler;
+
+    @Autowired
+    public InventoryLedger(InventoryStore store,
+                           @Value("${app.inventory.ledger.journal-dir:data/inventory-journal}") String directory,
+                           @Value("${app.inventory.ledger.name:default}") String ledgerName,
+                           @Value("${app.inventory.ledger.stripes:0}") int stripes) {
+        this(store, directory, ledgerName, stripes, InventoryJournal::new);
+    }
+
+    InventoryLedger(InventoryStore store, String directory, String ledgerName, int stripes,
+                    BiFunction<Path, Integer, InventoryJournal> journals) {
+        this.store = store;
+        this.directory = Path.of(directory);
+        this.ledgerName = ledgerName;
+        this.stripes = new Stripe[stripes > 0 ? stripes : Runtime.getRuntime().availableProcessors()];
+        for (int i = 0; i < this.stripes.length; i++) {
+            this.stripes[i] = new Stripe(journals.apply(this.directory, i));
+        }
+        this.threadStripe = ThreadLocal.withInitial(
+                () -> this.stripes[Math.floorMod(nextStripe.getAndIncrement(), this.stripes.length)]);
+    }
+
+    @PostConstruct
+    public void start() {
+        recover();
+        AtomicInteger threads = new AtomicInteger();
+        scheduler = Executors.newScheduledThreadPool(2, task -> {
+            Thread thread = new Thread(task, "inventory-ledger-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        // One thread each, so a slow flush transaction never delays the fsync
+        scheduler.scheduleWithFixedDelay(() -> runSafely("flush", this::flush),
+                flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(() -> runSafely("sync", this::sync),
+                fsyncIntervalMs, fsyncIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    // Applies journal segments left by the previous run before the first change is accepted
+    public void recover() {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create inventory journal directory " + directory, e);
+        }
+
+        long checkpoint = store.findCheckpoint(ledgerName);
+        InventoryJournal.Replay replay = InventoryJournal.replay(directory, checkpoint);
+        if (replay.maxSegment() > checkpoint) {
+            store.applyDeltas(ledgerName, replay.maxSegment(), replay.deltas(), replay.deltas().keySet());
+            log.info("Recovered inventory journal up to segment {}: {} records, {} products",
+                    replay.maxSegment(), replay.records(), replay.deltas().size());
+        }
+        if (replay.tornFiles() > 0) {
+            log.warn("Ignored the torn tail of {} inventory journal files", replay.tornFiles());
+        }
+        InventoryJournal.deleteThrough(directory, replay.maxSegment());
+        segment = replay.maxSegment() + 1;
+    }
+
+    // Returns the new stock level
+    public long adjust(Long productId, long delta) {
+        AtomicLong counter = counter(productId);
+        Stripe stripe = threadStripe.get();
+        stripe.lock.lock();
+        try {
+            long current;
+            long next;
+            do {
+                current = counter.get();
+                next = current + delta;
+                if (next < 0) {
+                    throw new InsufficientStockException(productId, current, delta);
+                }
+                if (next > Integer.MAX_VALUE) {
+                    throw new IllegalArgumentException("Stock for product " + productId + " cannot exceed " + Integer.MAX_VALUE);
+                }
+            } while (!counter.compareAndSet(current, next));
+
+            try {
+                stripe.journal.append(segment, productId, delta);
+            } catch (IOException e) {
+                counter.addAndGet(-delta);
+                throw new UncheckedIOException("Cannot journal stock change for product " + productId, e);
+            }
+            stripe.deltas.merge(productId, delta, Long::sum);
+            return next;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    // Empty for products this ledger has not seen a change for
+    public OptionalLong available(Long productId) {
+        AtomicLong counter = counters.get(productId);
+        return counter != null ? OptionalLong.of(counter.get()) : OptionalLong.empty();
+    }
+
+    private AtomicLong counter(Long productId) {
+        AtomicLong counter = counters.get(productId);
+        if (counter != null) {
+            return counter;
+        }
+        // First change for this product, so no unflushed deltas exist for it yet
+        int quantity = store.findQuantity(productId)
+                .orElseThrow(() -> new EntityNotFoundException("Product not found with id: " + productId));
+        AtomicLong existing = counters.putIfAbsent(productId, new AtomicLong(quantity));
+        return existing != null ? existing : counters.get(productId);
+    }
+
+    public void flush() {
+        flushLock.lock();
+        try {
+            Map<Long, Long> deltas = carried;
+            List<FileChannel> finished = new ArrayList<>();
+            // Products whose stock reaches or leaves zero, which always get a change log row
+            Set<Long> stockedOut = new HashSet<>();
+            long flushed;
+
+            // Only flushes take deltas out of the stripes, so none can disappear between this check and the swap
+            if (deltas.isEmpty() && !hasUnflushedRecords()) {
+                recordChangeRows(false);
+                return;
+            }
+
+            lockAll();
+            try {
+                // Later changes go to the next segment while this one is applied
+                flushed = segment;
+                segment = flushed + 1;
+                for (Stripe stripe : stripes) {
+                    FileChannel channel = stripe.journal.detach();
+                    if (channel != null) {
+                        finished.add(channel);
+                    }
+                    stripe.deltas.forEach((productId, delta) -> deltas.merge(productId, delta, Long::sum));
+                    stripe.deltas = new HashMap<>();
+                }
+                deltas.values().removeIf(delta -> delta == 0);
+                // With every stripe locked, each counter equals the stock this flush leaves in the database
+                for (Map.Entry<Long, Long> entry : deltas.entrySet()) {
+                    AtomicLong counter = counters.get(entry.getKey());
+                    long after = counter != null ? counter.get() : 0;
+                    if ((after == 0) != (after - entry.getValue() == 0)) {
+                        stockedOut.add(entry.getKey());
+                    }
+                }
+            } finally {
+                unlockAll();
+            }
+
+            finished.forEach(this::close);
+
+            long now = System.nanoTime();
+            Set<Long> pending = new HashSet<>(withoutChangeRow);
+            pending.addAll(deltas.keySet());
+            List<Long> changed = new ArrayList<>();
+            for (Long productId : pending) {
+                if (stockedOut.contains(productId) || isChangeRowDue(productId, now)) {
+                    changed.add(productId);
+                }
+            }
+
+            flushThread = Thread.currentThread();
+            try {
+                store.applyDeltas(ledgerName, flushed, deltas, changed);
+                carried = new HashMap<>();
+                withoutChangeRow.addAll(pending);
+                changeRowsWritten(changed, now);
+            } catch (DataAccessException | TransactionException e) {
+                carried = deltas;
+                log.warn("Inventory flush of segment {} failed, retrying with the next one: {}", flushed, e.getMessage());
+                return;
+            } finally {
+                flushThread = null;
+            }
+            InventoryJournal.deleteThrough(directory, flushed);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // Any record written this segment left a key, even if its deltas cancel out
+    private boolean hasUnflushedRecords() {
+        lockAll();
+        try {
+            for (Stripe stripe : stripes) {
+                if (!stripe.deltas.isEmpty()) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            unlockAll();
+        }
+    }
+
+    // A hot product would otherwise get a change log row every flush, and every node re-reads it for each row
+    private boolean isChangeRowDue(Long productId, long now) {
+        Long last = lastChangeRow.get(productId);
+        return last == null || now - last >= TimeUnit.MILLISECONDS.toNanos(changeIntervalMs);
+    }
+
+    private void changeRowsWritten(List<Long> productIds, long now) {
+        productIds.forEach(productId -> lastChangeRow.put(productId, now));
+        productIds.forEach(withoutChangeRow::remove);
+        lastChangeRow.values().removeIf(last -> now - last >= TimeUnit.MILLISECONDS.toNanos(changeIntervalMs));
+    }
+
+    // Nothing new to flush, but products that changed within the interval may be due for their row now
+    private void recordChangeRows(boolean all) {
+        if (withoutChangeRow.isEmpty()) {
+            return;
+        }
+        long now = System.nanoTime();
+        List<Long> due = withoutChangeRow.stream()
+                .filter(productId -> all || isChangeRowDue(productId, now))
+                .toList();
+        if (due.isEmpty()) {
+            return;
+        }
+        flushThread = Thread.currentThread();
+        try {
+            store.recordChanges(due);
+            changeRowsWritten(due, now);
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("Cannot record inventory changes, retrying with the next flush: {}", e.getMessage());
+        } finally {
+            flushThread = null;
+        }
+    }
+
+    // Bounds what an OS crash or power loss can take with it; a process crash loses nothing acknowledged
+    public void sync() {
+        for (Stripe stripe : stripes) {
+            FileChannel channel;
+            stripe.lock.lock();
+            try {
+                channel = stripe.journal.currentChannel();
+            } finally {
+                stripe.lock.unlock();
+            }
+            if (channel == null) {
+                continue;
+            }
+            try {
+                channel.force(false);
+            } catch (ClosedChannelException e) {
+                // Rotated by a flush, which forces it on close
+            } catch (IOException e) {
+                log.warn("Cannot sync inventory journal: {}", e.getMessage());
+            }
+        }
+    }
+
+    // Another write path or node changed the product, so restart its counter from the database
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        Long productId = event.productId();
+        AtomicLong counter = counters.get(productId);
+        if (counter == null || Thread.currentThread() == flushThread) {
+            return;
+        }
+        if (event.type() == ChangeType.DELETED) {
+            counters.remove(productId);
+            return;
+        }
+
+        flushLock.lock();
+        try {
+            Integer quantity = store.findQuantity(productId).orElse(null);
+            lockAll();
+            try {
+                if (quantity == null) {
+                    counters.remove(productId);
+                    return;
+                }
+                long unflushed = carried.getOrDefault(productId, 0L);
+                for (Stripe stripe : stripes) {
+                    unflushed += stripe.deltas.getOrDefault(productId, 0L);
+                }
+                counter.set(quantity + unflushed);
+            } finally {
+                unlockAll();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            try {
+                scheduler.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flush();
+        flushLock.lock();
+        try {
+            recordChangeRows(true);
+        } finally {
+            flushLock.unlock();
+        }
+        lockAll();
+        try {
+            for (Stripe stripe : stripes) {
+                FileChannel channel = stripe.journal.detach();
+                if (channel != null) {
+                    close(channel);
+                }
+            }
+        } finally {
+            unlockAll();
+        }
+    }
+
+    // An exception escaping a periodic task would cancel every later run
+    private void runSafely(String task, Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            log.error("Inventory ledger {} failed", task, e);
+        }
+    }
+
+    private void close(FileChannel channel) {
+        try {
+            channel.force(false);
+            channel.close();
+        } catch (IOException e) {
+            log.warn("Cannot close inventory journal: {}", e.getMessage());
+        }
+    }
+
+    private void lockAll() {
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+        }
+    }
+
+    private void unlockAll() {
+        for (int i = stripes.length - 1; i >= 0; i--) {
+            stripes[i].lock.unlock();
+        }
+    }
+
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final InventoryJournal journal;
+        private Map<Long, Long> deltas = new HashMap<>();
+
+        private Stripe(InventoryJournal journal) {
+            this.journal = journal;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.productmanagement.inventory;
+
+import com.example.productmanagement.cache.ProductChangeOutbox;
+import com.example.productmanagement.entity.InventoryCheckpoint;
+import com.example.productmanagement.event.ProductChangedEvent.ChangeType;
+import com.example.productmanagement.exception.InsufficientStockException;
+import com.example.productmanagement.repository.InventoryCheckpointRepository;
+import com.example.productmanagement.repository.ProductNameView;
+import com.example.productmanagement.repository.ProductRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+// Database side of stock changes: direct row updates, and the ledger's batched flushes
+@Component
+public class InventoryStore {
+
+    private final ProductRepository productRepository;
+    private final InventoryCheckpointRepository checkpointRepository;
+    private final ProductChangeOutbox changeOutbox;
+    private final JdbcTemplate jdbcTemplate;
+
+    public InventoryStore(ProductRepository productRepository, InventoryCheckpointRepository checkpointRepository,
+                          ProductChangeOutbox changeOutbox, JdbcTemplate jdbcTemplate) {
+        this.productRepository = productRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.changeOutbox = changeOutbox;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // One conditional UPDATE on the product row; used when the ledger is disabled
+    @Transactional
+    public int adjust(Long productId, int delta) {
+        int updated = productRepository.adjustQuantity(productId, delta, LocalDateTime.now());
+        ProductNameView product = productRepository.findNameViewById(productId)
+                .orElseThrow(() -> new EntityNotFoundException("Product not found with id: " + productId));
+        if (updated == 0) {
+            throw new InsufficientStockException(productId, product.getQuantity(), delta);
+        }
+        changeOutbox.record(productId, ChangeType.UPDATED);
+        return product.getQuantity();
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Integer> findQuantity(Long productId) {
+        return productRepository.findNameViewById(productId).map(ProductNameView::getQuantity);
+    }
+
+    @Transactional(readOnly = true)
+    public long findCheckpoint(String ledgerName) {
+        return checkpointRepository.findById(ledgerName).map(InventoryCheckpoint::getSegment).orElse(0L);
+    }
+
+    // Deltas and checkpoint commit together, so a journal segment is applied exactly once.
+    // Change log rows are only written for the products in changed; the ledger coalesces the rest.
+    @Transactional
+    public void applyDeltas(String ledgerName, long segment, Map<Long, Long> deltas, Collection<Long> changed) {
+        if (!deltas.isEmpty()) {
+            // Ascending ids so flushes from several nodes lock rows in the same order
+            List<Map.Entry<Long, Long>> rows = new ArrayList<>(new TreeMap<>(deltas).entrySet());
+            LocalDateTime now = LocalDateTime.now();
+            jdbcTemplate.batchUpdate(
+                    "UPDATE products SET quantity = quantity + ?, version = version + 1, updated_at = ? WHERE id = ?",
+                    rows, rows.size(), (ps, row) -> {
+                        ps.setLong(1, row.getValue());
+                        ps.setObject(2, now);
+                        ps.setLong(3, row.getKey());
+                    });
+        }
+        changed.forEach(productId -> changeOutbox.record(productId, ChangeType.UPDATED));
+        checkpointRepository.save(InventoryCheckpoint.builder()
+                .ledgerName(ledgerName)
+                .segment(segment)
+                .build());
+    }
+
+    // Change log rows for stock the ledger already flushed without one
+    @Transactional
+    public void recordChanges(Collection<Long> productIds) {
+        productIds.forEach(productId -> changeOutbox.record(productId, ChangeType.UPDATED));
+    }
+}
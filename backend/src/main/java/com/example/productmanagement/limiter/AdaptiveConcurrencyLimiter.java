@@ -0,0 +1,115 @@
+package com.example.productmanagement.limiter;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Gradient based concurrency limiter. The limit grows while observed latency stays
+ * close to the best latency seen recently and shrinks as soon as requests start
+ * queueing (latency rises) or failing. Requests over the limit are rejected
+ * immediately instead of waiting for a database connection.
+ */
+@Slf4j
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double SMOOTHING = 0.2;
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final int MIN_RTT_RESET_SAMPLES = 1000;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+
+    private long minRttNanos = Long.MAX_VALUE;
+    private double shortRttNanos;
+    private int samplesSinceReset;
+
+    public AdaptiveConcurrencyLimiter(
+            @Value("${app.concurrency.initial-limit:20}") int initialLimit,
+            @Value("${app.concurrency.min-limit:4}") int minLimit,
+            @Value("${app.concurrency.max-limit:200}") int maxLimit,
+            @Value("${app.concurrency.rtt-tolerance:2.0}") double tolerance) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    // Result of an admission attempt
+    public enum Admission {
+        ACCEPTED,
+        // The lane used up its share while other lanes still have room
+        LANE_FULL,
+        // The whole limit is in use
+        OVERLOADED
+    }
+
+    public Admission tryAcquire(RequestLane lane) {
+        while (true) {
+            int current = inFlight.get();
+            int total = (int) limit;
+            if (current >= total) {
+                return Admission.OVERLOADED;
+            }
+            if (current >= Math.max(1, (int) (total * lane.getShare()))) {
+                return Admission.LANE_FULL;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return Admission.ACCEPTED;
+            }
+        }
+    }
+
+    public void release(long rttNanos, boolean dropped) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        onSample(rttNanos, dropped, inFlightAtCompletion);
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void onSample(long rttNanos, boolean dropped, int inFlightAtCompletion) {
+        double current = limit;
+        double next;
+
+        if (dropped) {
+            next = current * BACKOFF_RATIO;
+        } else {
+            shortRttNanos = shortRttNanos == 0 ? rttNanos : shortRttNanos * (1 - SMOOTHING) + rttNanos * SMOOTHING;
+            minRttNanos = Math.min(minRttNanos, rttNanos);
+
+            // Periodically forget the best latency so the limiter can adapt to a slower backend
+            if (++samplesSinceReset >= MIN_RTT_RESET_SAMPLES) {
+                samplesSinceReset = 0;
+                minRttNanos = (long) shortRttNanos;
+            }
+
+            // Don't grow the limit when the app isn't using it
+            if (inFlightAtCompletion < current / 2) {
+                return;
+            }
+
+            double gradient = Math.max(0.5, Math.min(1.0, tolerance * minRttNanos / shortRttNanos));
+            double queueSize = Math.sqrt(current);
+            next = current * (1 - SMOOTHING) + (current * gradient + queueSize) * SMOOTHING;
+        }
+
+        next = Math.max(minLimit, Math.min(maxLimit, next));
+        if ((int) next != (int) current) {
+            log.debug("Concurrency limit changed from {} to {}", (int) current, (int) next);
+        }
+        limit = next;
+    }
+}
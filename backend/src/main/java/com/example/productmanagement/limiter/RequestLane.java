@@ -0,0 +1,43 @@
+package com.example.productmanagement.limiter;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+// Priority lanes for admission control. Each lane may only use its share of the
+// current adaptive limit, so cheap high-priority calls keep capacity when
+// expensive ones are being shed.
+public enum RequestLane {
+
+    STOCK(1.0),
+    SUGGEST(1.0),
+    SINGLE_ITEM(0.9),
+    SEARCH(0.7),
+    BULK(0.5);
+
+    private final double share;
+
+    RequestLane(double share) {
+        this.share = share;
+    }
+
+    public double getShare() {
+        return share;
+    }
+
+    public static RequestLane classify(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String method = request.getMethod();
+
+        if ("GET".equals(method) && path.endsWith("/stock")) {
+            return STOCK;
+        }
+        if ("GET".equals(method) && path.equals("/products/suggest")) {
+            return SUGGEST;
+        }
+        if ("GET".equals(method) && (path.equals("/products") || path.equals("/products/"))) {
+            String search = request.getParameter("search");
+            return search != null && !search.trim().isEmpty() ? SEARCH : BULK;
+        }
+        // Single product reads and writes by id, plus create
+        return SINGLE_ITEM;
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.productmanagement.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps one in {@code sampleRate} INFO-or-lower events from the configured loggers and drops
+ * the rest before the message is formatted or queued. WARN and ERROR always pass.
+ */
+public class LogSamplingFilter extends TurboFilter {
+
+    private Set<String> loggers = Set.of();
+    private long sampleRate = 1;
+    private final ConcurrentHashMap<String, AtomicLong> counters = new ConcurrentHashMap<>();
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (sampleRate <= 1 || level == null || level.isGreaterOrEqual(Level.WARN) || !loggers.contains(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        // Skip counting events the logger would drop anyway (isEnabledFor would re-enter this filter)
+        if (!level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        long count = counters.computeIfAbsent(logger.getName(), name -> new AtomicLong()).getAndIncrement();
+        return count % sampleRate == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    // Comma-separated logger names
+    public void setLoggers(String loggers) {
+        this.loggers = Arrays.stream(loggers.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public void setSampleRate(long sampleRate) {
+        this.sampleRate = Math.max(1, sampleRate);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.productmanagement.monitoring;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+// Wraps the application DataSource so every statement passes through SqlMonitoringListener
+@Component
+public class SqlMonitoringDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final long slowQueryThresholdMs;
+
+    public SqlMonitoringDataSourcePostProcessor(@Value("${app.sql.slow-query-threshold-ms:200}") long slowQueryThresholdMs) {
+        this.slowQueryThresholdMs = slowQueryThresholdMs;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+            return ProxyDataSourceBuilder.create(dataSource)
+                    .name(beanName)
+                    .listener(new SqlMonitoringListener(slowQueryThresholdMs))
+                    .build();
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.productmanagement.monitoring;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+// Counts and times every statement, and logs slow ones with their bind values
+public class SqlMonitoringListener implements QueryExecutionListener {
+
+    private static final Logger slowQueryLogger = LoggerFactory.getLogger("sql.slow");
+    private static final int MAX_LOGGED_ENTRIES = 3;
+    private static final int MAX_LOGGED_PARAMS = 20;
+    private static final int MAX_LOGGED_VALUE_LENGTH = 100;
+    private static final String START_NANOS = SqlMonitoringListener.class.getName() + ".start";
+
+    private final long slowQueryThresholdMs;
+
+    public SqlMonitoringListener(long slowQueryThresholdMs) {
+        this.slowQueryThresholdMs = slowQueryThresholdMs;
+    }
+
+    // ExecutionInfo.getElapsedTime() is whole milliseconds, which turns most statements into 0
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(START_NANOS, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long start = execInfo.getCustomValue(START_NANOS, Long.class);
+        long elapsedNanos = start != null ? System.nanoTime() - start : execInfo.getElapsedTime() * 1_000_000;
+        SqlStats.record(elapsedNanos);
+
+        long elapsedMs = elapsedNanos / 1_000_000;
+        if (elapsedMs >= slowQueryThresholdMs) {
+            String sql = queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+            slowQueryLogger.warn("slow_query duration_ms={} success={} batch_size={} sql=\"{}\" params={}",
+                    elapsedMs, execInfo.isSuccess(), execInfo.getBatchSize(), sql, formatParams(queryInfoList));
+        }
+    }
+
+    // Bounded so a slow multi-thousand-row batch logs a short sample instead of every bind value
+    static String formatParams(List<QueryInfo> queryInfoList) {
+        List<List<ParameterSetOperation>> entries = queryInfoList.stream()
+                .flatMap(query -> query.getParametersList().stream())
+                .toList();
+
+        String params = entries.stream()
+                .limit(MAX_LOGGED_ENTRIES)
+                .map(parameters -> {
+                    String values = parameters.stream()
+                            .limit(MAX_LOGGED_PARAMS)
+                            .map(SqlMonitoringListener::formatValue)
+                            .collect(Collectors.joining(", "));
+                    int hidden = parameters.size() - MAX_LOGGED_PARAMS;
+                    return "[" + values + (hidden > 0 ? ", ... " + hidden + " more" : "") + "]";
+                })
+                .collect(Collectors.joining(", "));
+        int hiddenEntries = entries.size() - MAX_LOGGED_ENTRIES;
+        return hiddenEntries > 0 ? params + ", ... " + hiddenEntries + " more entries" : params;
+    }
+
+    private static String formatValue(ParameterSetOperation operation) {
+        // setNull(index, sqlType) carries the type code where other setters carry the value
+        if ("setNull".equals(operation.getMethod().getName())) {
+            return "NULL";
+        }
+        String value = String.valueOf(operation.getArgs()[1]);
+        return value.length() > MAX_LOGGED_VALUE_LENGTH ? value.substring(0, MAX_LOGGED_VALUE_LENGTH) + "..." : value;
+    }
+}
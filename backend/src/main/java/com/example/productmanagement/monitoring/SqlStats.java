@@ -0,0 +1,57 @@
+package com.example.productmanagement.monitoring;
+
+import java.util.ArrayDeque;
+
+/**
+ * Per-thread SQL statement counters. A scope is opened for each HTTP request by
+ * {@link SqlTimingFilter}; tests can open their own scope around a call to assert
+ * how many statements it issued. Every open scope on the thread is updated.
+ */
+public final class SqlStats {
+
+    private static final ThreadLocal<ArrayDeque<Scope>> SCOPES = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private SqlStats() {
+    }
+
+    public static Scope open() {
+        Scope scope = new Scope();
+        SCOPES.get().push(scope);
+        return scope;
+    }
+
+    // Innermost open scope on this thread, or null
+    public static Scope current() {
+        return SCOPES.get().peek();
+    }
+
+    static void record(long elapsedNanos) {
+        for (Scope scope : SCOPES.get()) {
+            scope.statements++;
+            scope.elapsedNanos += elapsedNanos;
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private int statements;
+        private long elapsedNanos;
+
+        public int getStatements() {
+            return statements;
+        }
+
+        public double getElapsedMillis() {
+            return elapsedNanos / 1_000_000.0;
+        }
+
+        @Override
+        public void close() {
+            ArrayDeque<Scope> scopes = SCOPES.get();
+            scopes.remove(this);
+            if (scopes.isEmpty()) {
+                SCOPES.remove();
+            }
+        }
+    }
+}
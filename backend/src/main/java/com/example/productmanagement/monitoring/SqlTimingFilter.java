@@ -0,0 +1,44 @@
+package com.example.productmanagement.monitoring;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Locale;
+
+// Collects SQL statistics for each request and reports them in a Server-Timing header
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class SqlTimingFilter extends OncePerRequestFilter {
+
+    public static final String SERVER_TIMING = "Server-Timing";
+
+    public static String serverTiming(SqlStats.Scope scope) {
+        return String.format(Locale.ROOT, "db;dur=%.1f;desc=\"%d statements\"",
+                scope.getElapsedMillis(), scope.getStatements());
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        try (SqlStats.Scope scope = SqlStats.open()) {
+            filterChain.doFilter(request, response);
+
+            // Responses with a body got the header from ServerTimingAdvice before they were written
+            if (!response.isCommitted()) {
+                response.setHeader(SERVER_TIMING, serverTiming(scope));
+            }
+            log.debug("{} {} issued {} statements in {} ms", request.getMethod(), request.getRequestURI(),
+                    scope.getStatements(), String.format(Locale.ROOT, "%.1f", scope.getElapsedMillis()));
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.productmanagement.repository;
+
+import com.example.productmanagement.entity.ArchivedProduct;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ArchivedProductRepository extends JpaRepository<ArchivedProduct, Long> {
+
+    // Copy still-eligible rows into the archive; the caller deletes them from products in the same transaction
+    @Modifying
+    @Query(value = "INSERT INTO products_archive " +
+            "(id, name, description, price, quantity, created_at, updated_at, version, archived_at) " +
+            "SELECT id, name, description, price, quantity, created_at, updated_at, version, :archivedAt " +
+            "FROM products WHERE id IN (:ids) AND quantity = 0 AND updated_at < :cutoff", nativeQuery = true)
+    int copyFromProducts(@Param("ids") List<Long> ids, @Param("cutoff") LocalDateTime cutoff,
+                         @Param("archivedAt") LocalDateTime archivedAt);
+
+    // A product id lives in exactly one of the two tables, so after a copy these are the rows it moved
+    @Query("SELECT a.id FROM ArchivedProduct a WHERE a.id IN :ids")
+    List<Long> findArchivedIds(@Param("ids") List<Long> ids);
+
+    // Copy an archived row back into products with its original id
+    @Modifying
+    @Query(value = "INSERT INTO products (id, name, description, price, quantity, created_at, updated_at, version) " +
+            "SELECT id, name, description, price, quantity, created_at, :restoredAt, version + 1 " +
+            "FROM products_archive WHERE id = :id", nativeQuery = true)
+    int copyToProducts(@Param("id") Long id, @Param("restoredAt") LocalDateTime restoredAt);
+}
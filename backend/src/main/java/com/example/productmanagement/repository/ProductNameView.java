@@ -0,0 +1,11 @@
+package com.example.productmanagement.repository;
+
+// Projection used to build the suggestion index without loading descriptions
+public interface ProductNameView {
+
+    Long getId();
+
+    String getName();
+
+    Integer getQuantity();
+}
@@ -3,21 +3,30 @@ package com.example.productmanagement.repository;
 import com.example.productmanagement.entity.Product;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductRepositoryCustom {
     
     // Check if product exists by name (case-insensitive)
     @Query("SELECT COUNT(p) > 0 FROM Product p WHERE LOWER(p.name) = LOWER(:name)")
     boolean existsByNameIgnoreCase(@Param("name") String name);
 
+    // Same check, ignoring the product being renamed
+    @Query("SELECT COUNT(p) > 0 FROM Product p WHERE LOWER(p.name) = LOWER(:name) AND p.id <> :id")
+    boolean existsByNameIgnoreCaseAndIdNot(@Param("name") String name, @Param("id") Long id);
+
     // For non-paginated search by name
     @Query("SELECT p FROM Product p WHERE LOWER(p.name) LIKE LOWER(CONCAT('%', :name, '%'))")
     List<Product> searchByNameIgnoreCase(@Param("name") String name);
@@ -43,6 +52,31 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
                                     @Param("maxPrice") BigDecimal maxPrice);
 
     
+    // Keyset-paged names for the suggestion index
+    @Query("SELECT p.id AS id, p.name AS name, p.quantity AS quantity FROM Product p WHERE p.id > :afterId ORDER BY p.id")
+    Slice<ProductNameView> findNameViewsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT p.id AS id, p.name AS name, p.quantity AS quantity FROM Product p WHERE p.id = :id")
+    Optional<ProductNameView> findNameViewById(@Param("id") Long id);
+
+    @Query("SELECT p.id AS id, p.name AS name, p.quantity AS quantity FROM Product p WHERE p.id IN :ids")
+    List<ProductNameView> findNameViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Archive candidates: out of stock and untouched since the cutoff
+    @Query("SELECT p.id FROM Product p WHERE p.quantity = 0 AND p.updatedAt < :cutoff ORDER BY p.id")
+    List<Long> findArchivableIds(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    // Rows already copied to the archive in the same transaction
+    @Modifying
+    @Query("DELETE FROM Product p WHERE p.id IN :ids AND p.quantity = 0 AND p.updatedAt < :cutoff")
+    int deleteArchived(@Param("ids") List<Long> ids, @Param("cutoff") LocalDateTime cutoff);
+
+    // Stock change that never drops below zero; 0 rows means the product is missing or short on stock
+    @Modifying
+    @Query("UPDATE Product p SET p.quantity = p.quantity + :delta, p.updatedAt = :now, p.version = p.version + 1 " +
+           "WHERE p.id = :id AND p.quantity + :delta >= 0")
+    int adjustQuantity(@Param("id") Long id, @Param("delta") int delta, @Param("now") LocalDateTime now);
+
     List<Product> findAllByOrderByNameAsc();
     List<Product> findAllByOrderByPriceAsc();
     List<Product> findAllByOrderByPriceDesc();
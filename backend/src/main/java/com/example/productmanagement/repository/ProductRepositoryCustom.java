@@ -0,0 +1,9 @@
+package com.example.productmanagement.repository;
+
+import com.example.productmanagement.entity.Product;
+
+public interface ProductRepositoryCustom {
+
+    // Single UPDATE touching only the non-null fields of changes; returns the number of rows updated
+    int updateChangedFields(Long id, Long expectedVersion, Product changes);
+}
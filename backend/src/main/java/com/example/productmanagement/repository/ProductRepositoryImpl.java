@@ -0,0 +1,51 @@
+package com.example.productmanagement.repository;
+
+import com.example.productmanagement.entity.Product;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public class ProductRepositoryImpl implements ProductRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int updateChangedFields(Long id, Long expectedVersion, Product changes) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Product> update = cb.createCriteriaUpdate(Product.class);
+        Root<Product> root = update.from(Product.class);
+
+        if (changes.getName() != null) {
+            update.set(root.<String>get("name"), changes.getName());
+        }
+        if (changes.getDescription() != null) {
+            update.set(root.<String>get("description"), changes.getDescription());
+        }
+        if (changes.getPrice() != null) {
+            update.set(root.get("price"), changes.getPrice());
+        }
+        if (changes.getQuantity() != null) {
+            update.set(root.<Integer>get("quantity"), changes.getQuantity());
+        }
+
+        // Bulk updates bypass @UpdateTimestamp and @Version, so maintain both here
+        update.set(root.<LocalDateTime>get("updatedAt"), LocalDateTime.now());
+        update.set(root.<Long>get("version"), cb.sum(root.<Long>get("version"), 1L));
+
+        Predicate byId = cb.equal(root.get("id"), id);
+        update.where(expectedVersion != null ? cb.and(byId, cb.equal(root.get("version"), expectedVersion)) : byId);
+
+        int updated = entityManager.createQuery(update).executeUpdate();
+        // Drop any copy of the row already loaded in this persistence context
+        entityManager.clear();
+        return updated;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.productmanagement.service;
+
+import com.example.productmanagement.entity.ArchivedProduct;
+import com.example.productmanagement.entity.Product;
+
+public interface ProductArchiveService {
+
+    // Moves one batch of eligible products to the archive; returns how many were moved
+    int archiveBatch();
+
+
+    ArchivedProduct getArchivedProduct(Long id);
+
+
+    Product restoreProduct(Long id);
+}
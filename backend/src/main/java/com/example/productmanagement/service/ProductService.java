@@ -23,6 +23,9 @@ public interface ProductService {
 
     Product updateProduct(Long id, Product product);
 
+    // Partial update: only non-null fields of changes are written
+    void patchProduct(Long id, Product changes, Long expectedVersion);
+
     void deleteProduct(Long id);
 
 
@@ -58,4 +61,7 @@ public interface ProductService {
 
     // Stock availability check
     boolean checkStockAvailability(Long productId, Integer requestedQuantity);
+
+    // Stock increment or decrement, never below zero; returns the new stock level
+    int adjustStock(Long productId, int delta);
 }
@@ -0,0 +1,94 @@
+package com.example.productmanagement.service.impl;
+
+import com.example.productmanagement.cache.ProductChangeOutbox;
+import com.example.productmanagement.entity.ArchivedProduct;
+import com.example.productmanagement.entity.Product;
+import com.example.productmanagement.event.ProductChangedEvent.ChangeType;
+import com.example.productmanagement.exception.DuplicateProductException;
+import com.example.productmanagement.repository.ArchivedProductRepository;
+import com.example.productmanagement.repository.ProductRepository;
+import com.example.productmanagement.service.ProductArchiveService;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Service
+@Transactional
+public class ProductArchiveServiceImpl implements ProductArchiveService {
+
+    private final ProductRepository productRepository;
+    private final ArchivedProductRepository archivedProductRepository;
+    private final ProductChangeOutbox changeOutbox;
+
+    @Value("${app.archive.zero-stock-days:90}")
+    private long zeroStockDays;
+
+    @Value("${app.archive.batch-size:500}")
+    private int batchSize;
+
+    public ProductArchiveServiceImpl(ProductRepository productRepository,
+                                     ArchivedProductRepository archivedProductRepository,
+                                     ProductChangeOutbox changeOutbox) {
+        this.productRepository = productRepository;
+        this.archivedProductRepository = archivedProductRepository;
+        this.changeOutbox = changeOutbox;
+    }
+
+    @Override
+    public int archiveBatch() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(zeroStockDays);
+        List<Long> ids = productRepository.findArchivableIds(cutoff, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        // Both statements re-check the rule, so a product restocked since the select stays hot
+        int copied = archivedProductRepository.copyFromProducts(ids, cutoff, LocalDateTime.now());
+        int deleted = productRepository.deleteArchived(ids, cutoff);
+        if (copied != deleted) {
+            throw new IllegalStateException(
+                    "Archive batch mismatch: copied " + copied + " rows but deleted " + deleted);
+        }
+
+        // Only rows that actually moved; a restocked candidate must stay in caches and suggestions
+        if (deleted > 0) {
+            archivedProductRepository.findArchivedIds(ids).forEach(id -> changeOutbox.record(id, ChangeType.DELETED));
+        }
+        log.info("Archived {} zero-stock products not updated since {}", deleted, cutoff);
+        return deleted;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ArchivedProduct getArchivedProduct(Long id) {
+        log.info("Retrieving archived product with ID: {}", id);
+        return archivedProductRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Archived product not found with ID: " + id));
+    }
+
+    @Override
+    public Product restoreProduct(Long id) {
+        log.info("Restoring archived product with ID: {}", id);
+        ArchivedProduct archived = getArchivedProduct(id);
+
+        if (productRepository.existsByNameIgnoreCase(archived.getName())) {
+            throw new DuplicateProductException("Cannot restore product " + id + ": a product with the name '"
+                    + archived.getName() + "' already exists.");
+        }
+
+        archivedProductRepository.copyToProducts(id, LocalDateTime.now());
+        archivedProductRepository.delete(archived);
+        changeOutbox.record(id, ChangeType.CREATED);
+
+        log.info("Restored product with ID: {}", id);
+        return productRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Product not found with ID: " + id));
+    }
+}
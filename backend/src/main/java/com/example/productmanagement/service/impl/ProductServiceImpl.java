@@ -1,30 +1,56 @@
 package com.example.productmanagement.service.impl;
 
+import com.example.productmanagement.cache.ProductChangeOutbox;
+import com.example.productmanagement.cache.ProductNearCache;
 import com.example.productmanagement.entity.Product;
+import com.example.productmanagement.event.ProductChangedEvent.ChangeType;
 import com.example.productmanagement.exception.DuplicateProductException;
+import com.example.productmanagement.inventory.InventoryLedger;
+import com.example.productmanagement.inventory.InventoryStore;
 import com.example.productmanagement.repository.ProductRepository;
 import com.example.productmanagement.service.ProductService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.OptionalLong;
 
 @Slf4j
 @Service
 @Transactional
 public class ProductServiceImpl implements ProductService {
 
+    // Read paths log through their own logger so they can be sampled without touching write logs
+    private static final Logger READ_LOG = LoggerFactory.getLogger(ProductServiceImpl.class.getName() + ".reads");
+
     private final ProductRepository productRepository;
+    private final ProductNearCache nearCache;
+    private final ProductChangeOutbox changeOutbox;
+    private final InventoryStore inventoryStore;
+
+    // Null unless app.inventory.ledger.enabled=true
+    private final InventoryLedger inventoryLedger;
 
-    public ProductServiceImpl(ProductRepository productRepository) {
+    public ProductServiceImpl(ProductRepository productRepository, ProductNearCache nearCache,
+                              ProductChangeOutbox changeOutbox, InventoryStore inventoryStore,
+                              ObjectProvider<InventoryLedger> inventoryLedger) {
         this.productRepository = productRepository;
+        this.nearCache = nearCache;
+        this.changeOutbox = changeOutbox;
+        this.inventoryStore = inventoryStore;
+        this.inventoryLedger = inventoryLedger.getIfAvailable();
     }
 
     @Override
@@ -47,6 +73,7 @@ public class ProductServiceImpl implements ProductService {
 
         try {
             Product savedProduct = productRepository.save(product);
+            changeOutbox.record(savedProduct.getId(), ChangeType.CREATED);
             log.info("Product created successfully - ID: {}, Name: '{}' (length: {})", 
                 savedProduct.getId(), savedProduct.getName(), savedProduct.getName().length());
             return savedProduct;
@@ -59,22 +86,23 @@ public class ProductServiceImpl implements ProductService {
     @Override
     @Transactional(readOnly = true)
     public List<Product> getAllProducts() {
-        log.info("Retrieving all products");
+        READ_LOG.info("Retrieving all products");
         return productRepository.findAll();
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<Product> getAllProducts(Pageable pageable) {
-        log.info("Retrieving all products with pagination: page={}, size={}", pageable.getPageNumber(), pageable.getPageSize());
+        READ_LOG.info("Retrieving all products with pagination: page={}, size={}", pageable.getPageNumber(), pageable.getPageSize());
         return productRepository.findAll(pageable);
     }
 
+    // SUPPORTS: a near-cache hit should not open a transaction and take a pooled connection
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Product getProductById(Long id) {
-        log.info("Retrieving product with ID: {}", id);
-        return productRepository.findById(id)
+        READ_LOG.info("Retrieving product with ID: {}", id);
+        return nearCache.get(id, productRepository::findById)
                 .orElseThrow(() -> new EntityNotFoundException("Product not found with ID: " + id));
     }
 
@@ -83,8 +111,9 @@ public class ProductServiceImpl implements ProductService {
     public Product updateProduct(Long id, Product product) {
         log.info("Updating product with ID: {}", id);
         
-        // Find existing product
-        Product existingProduct = getProductById(id);
+        // Find existing product (always from the database, never the shared cached instance)
+        Product existingProduct = productRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Product not found with ID: " + id));
         
         // Check for duplicate name if name is being changed
         if (!existingProduct.getName().equalsIgnoreCase(product.getName()) && 
@@ -105,8 +134,72 @@ public class ProductServiceImpl implements ProductService {
         existingProduct.setPrice(product.getPrice());
         existingProduct.setQuantity(product.getQuantity());
         
+        Product savedProduct = productRepository.save(existingProduct);
+        changeOutbox.record(id, ChangeType.UPDATED);
         log.info("Updated product with ID: {}", id);
-        return productRepository.save(existingProduct);
+        return savedProduct;
+    }
+
+    @Override
+    @Transactional
+    public void patchProduct(Long id, Product changes, Long expectedVersion) {
+        log.info("Patching product with ID: {}", id);
+
+        if (changes.getName() == null && changes.getDescription() == null
+                && changes.getPrice() == null && changes.getQuantity() == null) {
+            throw new IllegalArgumentException("At least one field must be provided for a partial update");
+        }
+
+        // Bulk updates skip entity validation, so check what the entity constraints would
+        if (changes.getName() != null) {
+            String productName = changes.getName().trim();
+            if (productName.isEmpty()) {
+                throw new IllegalArgumentException("Product name cannot be empty");
+            }
+            // The request was size-checked before trimming, but the trimmed name is what gets stored
+            if (productName.length() < 2 || productName.length() > 100) {
+                throw new IllegalArgumentException("Product name must be between 2 and 100 characters");
+            }
+            changes.setName(productName);
+
+            // Only a payload that renames the product pays for the uniqueness check
+            if (productRepository.existsByNameIgnoreCaseAndIdNot(productName, id)) {
+                String errorMessage = String.format("Product with name '%s' already exists", productName);
+                log.warn("Duplicate product name during patch: {}", errorMessage);
+                throw new DuplicateProductException(errorMessage);
+            }
+        }
+        if (changes.getDescription() != null && changes.getDescription().trim().isEmpty()) {
+            throw new IllegalArgumentException("Product description cannot be empty");
+        }
+        if (changes.getPrice() != null && changes.getPrice().compareTo(new BigDecimal("0.01")) < 0) {
+            throw new IllegalArgumentException("Price must be greater than 0");
+        }
+        if (changes.getPrice() != null && !fitsPriceColumn(changes.getPrice())) {
+            throw new IllegalArgumentException("Price must have at most 10 integer digits and 2 decimal places");
+        }
+        if (changes.getQuantity() != null && changes.getQuantity() < 0) {
+            throw new IllegalArgumentException("Product quantity cannot be negative");
+        }
+
+        if (productRepository.updateChangedFields(id, expectedVersion, changes) == 0) {
+            // Only the failure path needs a second look to tell "missing" from "stale version"
+            if (expectedVersion != null && productRepository.existsById(id)) {
+                throw new OptimisticLockingFailureException(
+                        "Product with ID " + id + " was modified by another request (expected version " + expectedVersion + ")");
+            }
+            throw new EntityNotFoundException("Product not found with ID: " + id);
+        }
+
+        changeOutbox.record(id, ChangeType.UPDATED);
+        log.info("Patched product with ID: {}", id);
+    }
+
+    // Same rule as @Digits(integer = 10, fraction = 2) on Product.price
+    private static boolean fitsPriceColumn(BigDecimal price) {
+        int scale = Math.max(price.scale(), 0);
+        int integerDigits = Math.max(price.precision() - price.scale(), 0);
+        return integerDigits <= 10 && scale <= 2;
     }
 
     @Override
@@ -116,6 +209,7 @@ public class ProductServiceImpl implements ProductService {
             throw new EntityNotFoundException("Product not found with id: " + id);
         }
         productRepository.deleteById(id);
+        changeOutbox.record(id, ChangeType.DELETED);
         log.info("Product deleted successfully with ID: {}", id);
     }
 
@@ -127,7 +221,7 @@ public class ProductServiceImpl implements ProductService {
     
     @Override
     public Page<Product> searchProductsByName(String name, int page, int size, String sortBy, String sortDir) {
-        log.info("Searching products by name: {}, page: {}, size: {}, sortBy: {}, sortDir: {}", 
+        READ_LOG.info("Searching products by name: {}, page: {}, size: {}, sortBy: {}, sortDir: {}", 
             name, page, size, sortBy, sortDir);
             
         Sort sort = sortDir.equalsIgnoreCase("desc")
@@ -145,64 +239,83 @@ public class ProductServiceImpl implements ProductService {
     @Override
     @Transactional(readOnly = true)
     public List<Product> getProductsByQuantityGreaterThan(Integer quantity) {
-        log.info("Retrieving products with quantity greater than: {}", quantity);
+        READ_LOG.info("Retrieving products with quantity greater than: {}", quantity);
         return productRepository.findByQuantityGreaterThan(quantity);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<Product> getProductsByPriceRange(BigDecimal minPrice, BigDecimal maxPrice) {
-        log.info("Retrieving products with price between {} and {}", minPrice, maxPrice);
+        READ_LOG.info("Retrieving products with price between {} and {}", minPrice, maxPrice);
         return productRepository.findByPriceBetween(minPrice, maxPrice);
     }
 
     @Override
     @Transactional(readOnly = true)
     public boolean existsByName(String name) {
-        log.info("Checking if product exists by name: {}", name);
+        READ_LOG.info("Checking if product exists by name: {}", name);
         return productRepository.existsByNameIgnoreCase(name);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<Product> getAllProductsOrderedByName() {
-        log.info("Retrieving all products ordered by name");
+        READ_LOG.info("Retrieving all products ordered by name");
         return productRepository.findAllByOrderByNameAsc();
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<Product> getAllProductsOrderedByPriceAsc() {
-        log.info("Retrieving all products ordered by price ascending");
+        READ_LOG.info("Retrieving all products ordered by price ascending");
         return productRepository.findAllByOrderByPriceAsc();
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<Product> getAllProductsOrderedByPriceDesc() {
-        log.info("Retrieving all products ordered by price descending");
+        READ_LOG.info("Retrieving all products ordered by price descending");
         return productRepository.findAllByOrderByPriceDesc();
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<Product> getAllProductsOrderedByCreatedDateDesc() {
-        log.info("Retrieving all products ordered by created date descending");
+        READ_LOG.info("Retrieving all products ordered by created date descending");
         return productRepository.findAllByOrderByCreatedAtDesc();
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<Product> searchProducts(String searchTerm, Pageable pageable) {
-        log.info("Searching products with term: {} with pagination", searchTerm);
+        READ_LOG.info("Searching products with term: {} with pagination", searchTerm);
         return productRepository.searchProductsPageable(searchTerm, pageable);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public boolean checkStockAvailability(Long productId, Integer quantity) {
-        Product product = productRepository.findById(productId)
+        if (inventoryLedger != null) {
+            OptionalLong available = inventoryLedger.available(productId);
+            if (available.isPresent()) {
+                return available.getAsLong() >= quantity;
+            }
+        }
+        Product product = nearCache.get(productId, productRepository::findById)
                 .orElseThrow(() -> new EntityNotFoundException("Product not found with id: " + productId));
         return product.getQuantity() >= quantity;
     }
+
+    // Stock changes skip the near cache and, with the ledger enabled, the database as well
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public int adjustStock(Long productId, int delta) {
+        if (delta == 0) {
+            throw new IllegalArgumentException("Stock delta must not be zero");
+        }
+        if (inventoryLedger != null) {
+            return (int) inventoryLedger.adjust(productId, delta);
+        }
+        return inventoryStore.adjust(productId, delta);
+    }
 }
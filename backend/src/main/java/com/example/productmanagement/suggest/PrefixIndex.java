@@ -0,0 +1,305 @@
+package com.example.productmanagement.suggest;
+
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable, sorted prefix index over normalized product names. Keys and display names
+ * are packed into flat UTF-8 byte arrays (roughly 70 bytes per product including ids and
+ * scores). A prefix lookup is two binary searches followed by a scan of the matching range;
+ * prefixes matching too many names to scan have their top entries precomputed, and
+ * deepened on demand when many of those entries have been updated since the build.
+ */
+public final class PrefixIndex {
+
+    static final int MAX_RESULTS = 20;
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+
+    private final byte[] keyBytes;
+    private final int[] keyOffsets;
+    private final byte[] nameBytes;
+    private final int[] nameOffsets;
+    private final long[] ids;
+    private final int[] scores;
+    private final Map<String, int[]> topByLargePrefix;
+    // Deeper top lists for large prefixes whose precomputed entries were mostly updated since the build
+    private final Map<String, int[]> deeperByPrefix = new ConcurrentHashMap<>();
+
+    public record Entry(long id, String name, String key, int score) {
+
+        public static Entry of(long id, String name, int score) {
+            return new Entry(id, name, normalize(name), score);
+        }
+    }
+
+    public record Hit(long id, String name, int score) {
+    }
+
+    private PrefixIndex(List<Entry> sorted) {
+        int n = sorted.size();
+        ids = new long[n];
+        scores = new int[n];
+        keyOffsets = new int[n + 1];
+        nameOffsets = new int[n + 1];
+
+        byte[][] keys = new byte[n][];
+        byte[][] names = new byte[n][];
+        int keyLength = 0;
+        int nameLength = 0;
+        for (int i = 0; i < n; i++) {
+            Entry entry = sorted.get(i);
+            ids[i] = entry.id();
+            scores[i] = entry.score();
+            keys[i] = entry.key().getBytes(StandardCharsets.UTF_8);
+            names[i] = entry.name().equals(entry.key()) ? null : entry.name().getBytes(StandardCharsets.UTF_8);
+            keyLength += keys[i].length;
+            nameLength += names[i] == null ? 0 : names[i].length;
+        }
+
+        // Names that are already normalized are not stored twice
+        keyBytes = new byte[keyLength];
+        nameBytes = new byte[nameLength];
+        for (int i = 0, k = 0, m = 0; i < n; i++) {
+            keyOffsets[i] = k;
+            nameOffsets[i] = m;
+            System.arraycopy(keys[i], 0, keyBytes, k, keys[i].length);
+            k += keys[i].length;
+            if (names[i] != null) {
+                System.arraycopy(names[i], 0, nameBytes, m, names[i].length);
+                m += names[i].length;
+            }
+        }
+        keyOffsets[n] = keyLength;
+        nameOffsets[n] = nameLength;
+
+        topByLargePrefix = precomputeLargeRanges(sorted);
+    }
+
+    public static PrefixIndex build(Collection<Entry> entries) {
+        List<Entry> sorted = new ArrayList<>(entries);
+        sorted.sort(Comparator.comparing(Entry::key, PrefixIndex::compareCodePoints).thenComparingLong(Entry::id));
+        return new PrefixIndex(sorted);
+    }
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFKD);
+        String stripped = MARKS.matcher(decomposed).replaceAll("");
+        return SPACES.matcher(stripped.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    // Code point order, which is the unsigned UTF-8 byte order the lookups binary search in.
+    // String.compareTo orders surrogate pairs below U+E000..U+FFFF instead.
+    static int compareCodePoints(String a, String b) {
+        int length = Math.min(a.length(), b.length());
+        for (int i = 0; i < length; i++) {
+            char x = a.charAt(i);
+            char y = b.charAt(i);
+            if (x != y) {
+                if (!Character.isSurrogate(x) && !Character.isSurrogate(y)) {
+                    return Character.compare(x, y);
+                }
+                return Integer.compare(a.codePointAt(i), b.codePointAt(i));
+            }
+        }
+        return Integer.compare(a.length(), b.length());
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public long estimatedBytes() {
+        return keyBytes.length + nameBytes.length + 4L * (keyOffsets.length + nameOffsets.length)
+                + 8L * ids.length + 4L * scores.length
+                + topByLargePrefix.size() * (64L + 4L * MAX_RESULTS * 2);
+    }
+
+    /**
+     * Adds the best entries starting with {@code prefix} to {@code collector}, skipping ids in {@code excluded}.
+     */
+    void collect(String prefix, Set<Long> excluded, TopK collector) {
+        byte[] prefixBytes = prefix.getBytes(StandardCharsets.UTF_8);
+        int from = bound(prefixBytes, false);
+        int to = bound(prefixBytes, true);
+
+        int[] precomputed = deeperByPrefix.getOrDefault(prefix, topByLargePrefix.get(prefix));
+        if (precomputed != null) {
+            // Updated products are excluded here and served from the overlay; once too many of a prefix's
+            // best entries are excluded, a list twice as deep replaces it, so the range is scanned
+            // once per doubling instead of on every lookup
+            while (survivors(precomputed, excluded) < collector.capacity() && precomputed.length < to - from) {
+                precomputed = topOfRange(from, to, precomputed.length * 2);
+                deeperByPrefix.put(prefix, precomputed);
+            }
+            for (int i : precomputed) {
+                if (!excluded.contains(ids[i])) {
+                    collector.offer(ids[i], scores[i], this, i);
+                }
+            }
+            return;
+        }
+
+        // Only prefixes matching at most SCAN_LIMIT names get here
+        for (int i = from; i < to; i++) {
+            if (!excluded.contains(ids[i])) {
+                collector.offer(ids[i], scores[i], this, i);
+            }
+        }
+    }
+
+    private int survivors(int[] indexes, Set<Long> excluded) {
+        int remaining = 0;
+        for (int i : indexes) {
+            if (!excluded.contains(ids[i])) {
+                remaining++;
+            }
+        }
+        return remaining;
+    }
+
+    private int[] topOfRange(int from, int to, int depth) {
+        TopK bucket = new TopK(Math.min(depth, to - from));
+        for (int i = from; i < to; i++) {
+            bucket.offer(ids[i], scores[i], this, i);
+        }
+        return bucket.snapshotIndexes();
+    }
+
+    String name(int index) {
+        if (nameOffsets[index] == nameOffsets[index + 1]) {
+            return new String(keyBytes, keyOffsets[index], keyOffsets[index + 1] - keyOffsets[index], StandardCharsets.UTF_8);
+        }
+        return new String(nameBytes, nameOffsets[index], nameOffsets[index + 1] - nameOffsets[index], StandardCharsets.UTF_8);
+    }
+
+    // First index whose key is >= prefix (upper = false) or sorts after every key starting with prefix (upper = true)
+    private int bound(byte[] prefix, boolean upper) {
+        int low = 0;
+        int high = ids.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int cmp = comparePrefix(mid, prefix);
+            if (cmp < 0 || (upper && cmp == 0)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // Compares the key at index with prefix, treating any key that starts with prefix as equal
+    private int comparePrefix(int index, byte[] prefix) {
+        int start = keyOffsets[index];
+        int length = keyOffsets[index + 1] - start;
+        int common = Math.min(length, prefix.length);
+        for (int i = 0; i < common; i++) {
+            int cmp = Integer.compare(keyBytes[start + i] & 0xff, prefix[i] & 0xff);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return length >= prefix.length ? 0 : -1;
+    }
+
+    // Prefixes matching more entries than this get their top entries precomputed instead of scanned
+    private static final int SCAN_LIMIT = 2048;
+
+    private Map<String, int[]> precomputeLargeRanges(List<Entry> sorted) {
+        Map<String, int[]> top = new HashMap<>();
+        Deque<int[]> ranges = new ArrayDeque<>();
+        // {from, to, prefix length}; every key in [from, to) shares its first (length - 1) characters
+        ranges.push(new int[]{0, sorted.size(), 1});
+
+        while (!ranges.isEmpty()) {
+            int[] range = ranges.pop();
+            int length = range[2];
+            int i = range[0];
+            while (i < range[1]) {
+                String key = sorted.get(i).key();
+                if (key.length() < length) {
+                    i++;
+                    continue;
+                }
+                String prefix = key.substring(0, length);
+                int groupEnd = i + 1;
+                while (groupEnd < range[1] && sorted.get(groupEnd).key().startsWith(prefix)) {
+                    groupEnd++;
+                }
+                if (groupEnd - i > SCAN_LIMIT) {
+                    top.put(prefix, topOfRange(i, groupEnd, MAX_RESULTS * 2));
+                    ranges.push(new int[]{i, groupEnd, length + 1});
+                }
+                i = groupEnd;
+            }
+        }
+        return top;
+    }
+
+    /**
+     * Bounded min-heap keeping the highest scores (ties broken by lower id).
+     */
+    static final class TopK {
+
+        private record Candidate(long id, int score, PrefixIndex source, int index, String name) {
+        }
+
+        private static final Comparator<Candidate> WORST_FIRST = Comparator.comparingInt(Candidate::score)
+                .thenComparing(Comparator.comparingLong(Candidate::id).reversed());
+
+        private final int capacity;
+        private final PriorityQueue<Candidate> heap;
+
+        TopK(int capacity) {
+            this.capacity = capacity;
+            this.heap = new PriorityQueue<>(capacity + 1, WORST_FIRST);
+        }
+
+        int capacity() {
+            return capacity;
+        }
+
+        void offer(long id, int score, PrefixIndex source, int index) {
+            add(new Candidate(id, score, source, index, null), score, id);
+        }
+
+        void offer(long id, int score, String name) {
+            add(new Candidate(id, score, null, -1, name), score, id);
+        }
+
+        private void add(Candidate candidate, int score, long id) {
+            if (heap.size() < capacity) {
+                heap.add(candidate);
+                return;
+            }
+            Candidate worst = heap.peek();
+            if (score > worst.score() || (score == worst.score() && id < worst.id())) {
+                heap.poll();
+                heap.add(candidate);
+            }
+        }
+
+        List<Hit> result() {
+            List<Candidate> ordered = new ArrayList<>(heap);
+            ordered.sort(WORST_FIRST.reversed());
+            List<Hit> hits = new ArrayList<>(ordered.size());
+            for (Candidate c : ordered) {
+                hits.add(new Hit(c.id(), c.name() != null ? c.name() : c.source().name(c.index()), c.score()));
+            }
+            return hits;
+        }
+
+        private int[] snapshotIndexes() {
+            List<Candidate> ordered = new ArrayList<>(heap);
+            ordered.sort(WORST_FIRST.reversed());
+            return ordered.stream().mapToInt(Candidate::index).toArray();
+        }
+    }
+}
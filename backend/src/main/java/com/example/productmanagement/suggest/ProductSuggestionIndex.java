@@ -0,0 +1,202 @@
+package com.example.productmanagement.suggest;
+
+import com.example.productmanagement.event.ProductChangedEvent;
+import com.example.productmanagement.repository.ProductNameView;
+import com.example.productmanagement.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * In-memory typeahead over product names, ranked by stock. Queries are lock-free: they read
+ * an immutable {@link PrefixIndex} plus a small overlay of products changed since it was
+ * built. The index is rebuilt from the database at startup, when the overlay grows too
+ * large, and periodically to pick up rows written outside this service (bulk loads, seeding).
+ */
+@Slf4j
+@Component
+public class ProductSuggestionIndex {
+
+    private static final int LOAD_BATCH_SIZE = 10_000;
+
+    private record State(PrefixIndex snapshot,
+                         ConcurrentSkipListMap<String, PrefixIndex.Entry> overlay,
+                         Map<Long, String> overlayKeys,
+                         Set<Long> removed) {
+
+        static State of(PrefixIndex snapshot) {
+            return new State(snapshot, new ConcurrentSkipListMap<>(), new ConcurrentHashMap<>(),
+                    ConcurrentHashMap.newKeySet());
+        }
+    }
+
+    private final ProductRepository productRepository;
+
+    @Value("${app.suggest.max-overlay-size:10000}")
+    private int maxOverlaySize;
+
+    private volatile State state = State.of(PrefixIndex.build(List.of()));
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    // Products changed since the last refresh; deletes go through here too, so a late read cannot revive them
+    private final Set<Long> pendingRefresh = ConcurrentHashMap.newKeySet();
+    private final Object refreshLock = new Object();
+    // Ids changed while a rebuild is reading the database; guarded by this
+    private Set<Long> touchedDuringRebuild;
+
+    public ProductSuggestionIndex(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    public List<PrefixIndex.Hit> suggest(String prefix, int limit) {
+        String key = PrefixIndex.normalize(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        State current = state;
+        PrefixIndex.TopK top = new PrefixIndex.TopK(Math.max(1, Math.min(limit, PrefixIndex.MAX_RESULTS)));
+        current.snapshot().collect(key, current.removed(), top);
+        for (PrefixIndex.Entry entry : current.overlay().subMap(key, key + Character.MAX_VALUE).values()) {
+            top.offer(entry.id(), entry.score(), entry.name());
+        }
+        return top.result();
+    }
+
+    public synchronized void upsert(long id, String name, int score) {
+        State current = state;
+        removeFromOverlay(current, id);
+        PrefixIndex.Entry entry = PrefixIndex.Entry.of(id, name, score);
+        // Id suffix keeps products with the same normalized name apart
+        String overlayKey = entry.key() + '\u0000' + id;
+        current.overlay().put(overlayKey, entry);
+        current.overlayKeys().put(id, overlayKey);
+        current.removed().add(id);
+        noteTouched(id);
+    }
+
+    public synchronized void remove(long id) {
+        State current = state;
+        removeFromOverlay(current, id);
+        current.removed().add(id);
+        noteTouched(id);
+    }
+
+    // Runs on the writer's thread after commit, so it only queues the id; refreshPending reads the rows
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        pendingRefresh.add(event.productId());
+    }
+
+    @Scheduled(fixedDelayString = "${app.suggest.refresh-interval-ms:200}",
+            initialDelayString = "${app.suggest.refresh-interval-ms:200}")
+    public void refreshPending() {
+        synchronized (refreshLock) {
+            while (!pendingRefresh.isEmpty()) {
+                // An id is dequeued before its row is read, so a commit after the read queues it again
+                List<Long> ids = new ArrayList<>();
+                Iterator<Long> pending = pendingRefresh.iterator();
+                while (pending.hasNext() && ids.size() < LOAD_BATCH_SIZE) {
+                    ids.add(pending.next());
+                    pending.remove();
+                }
+
+                Set<Long> missing = new HashSet<>(ids);
+                for (ProductNameView view : productRepository.findNameViewsByIdIn(ids)) {
+                    upsert(view.getId(), view.getName(), view.getQuantity());
+                    missing.remove(view.getId());
+                }
+                missing.forEach(this::remove);
+            }
+        }
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${app.suggest.rebuild-check-interval-ms:60000}",
+            initialDelayString = "${app.suggest.rebuild-check-interval-ms:60000}")
+    public void rebuildIfNeeded() {
+        if (state.overlay().size() + state.removed().size() > maxOverlaySize) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.suggest.full-rebuild-interval-ms:900000}",
+            initialDelayString = "${app.suggest.full-rebuild-interval-ms:900000}")
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            synchronized (this) {
+                touchedDuringRebuild = new HashSet<>();
+            }
+
+            long start = System.nanoTime();
+            List<PrefixIndex.Entry> entries = new ArrayList<>();
+            long afterId = 0;
+            Slice<ProductNameView> slice;
+            do {
+                slice = productRepository.findNameViewsAfter(afterId, PageRequest.of(0, LOAD_BATCH_SIZE));
+                for (ProductNameView view : slice) {
+                    entries.add(PrefixIndex.Entry.of(view.getId(), view.getName(), view.getQuantity()));
+                    afterId = view.getId();
+                }
+            } while (slice.hasNext());
+            PrefixIndex snapshot = PrefixIndex.build(entries);
+
+            synchronized (this) {
+                // Changes that raced with the load are carried over from the current overlay
+                State current = state;
+                State next = State.of(snapshot);
+                for (Long id : touchedDuringRebuild) {
+                    next.removed().add(id);
+                    String overlayKey = current.overlayKeys().get(id);
+                    if (overlayKey != null) {
+                        next.overlay().put(overlayKey, current.overlay().get(overlayKey));
+                        next.overlayKeys().put(id, overlayKey);
+                    }
+                }
+                touchedDuringRebuild = null;
+                state = next;
+            }
+
+            log.info("Suggestion index built: {} names, ~{} KB, {} ms", snapshot.size(),
+                    snapshot.estimatedBytes() / 1024, (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.error("Failed to rebuild suggestion index: {}", e.getMessage(), e);
+            synchronized (this) {
+                touchedDuringRebuild = null;
+            }
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    private void removeFromOverlay(State current, long id) {
+        String previousKey = current.overlayKeys().remove(id);
+        if (previousKey != null) {
+            current.overlay().remove(previousKey);
+        }
+    }
+
+    private void noteTouched(long id) {
+        if (touchedDuringRebuild != null) {
+            touchedDuringRebuild.add(id);
+        }
+    }
+}
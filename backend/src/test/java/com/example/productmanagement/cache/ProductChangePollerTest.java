@@ -0,0 +1,56 @@
+package com.example.productmanagement.cache;
+
+import com.example.productmanagement.entity.Product;
+import com.example.productmanagement.repository.ProductRepository;
+import com.example.productmanagement.service.ProductService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Another node's write is simulated with plain SQL: the row change plus its product_changes entry.
+// Scheduled polling is pushed out of the test's reach so poll() only runs when the test calls it.
+@SpringBootTest(classes = com.example.productmanagement.ProductManagementApplication.class)
+@TestPropertySource(properties = "app.cache.poll-interval-ms=3600000")
+class ProductChangePollerTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductChangePoller poller;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // No poll has run yet in this context, as on a node that just started serving traffic
+    @Test
+    void remoteWriteIsVisibleAfterTheFirstPoll() {
+        Long id = productRepository.save(Product.builder()
+                .name("Poller Test Product")
+                .description("Product used by the change poller test")
+                .price(new BigDecimal("3.00"))
+                .quantity(10)
+                .build()).getId();
+
+        assertEquals(10, productService.getProductById(id).getQuantity());
+
+        jdbcTemplate.update("UPDATE products SET quantity = 4, version = version + 1 WHERE id = ?", id);
+        jdbcTemplate.update("INSERT INTO product_changes (product_id, change_type, origin, changed_at) VALUES (?, 'UPDATED', 'other-node', ?)",
+                id, LocalDateTime.now());
+
+        // Still served from this node's cache until the change log is polled
+        assertEquals(10, productService.getProductById(id).getQuantity());
+        poller.poll();
+        assertEquals(4, productService.getProductById(id).getQuantity());
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.productmanagement.cache;
+
+import com.example.productmanagement.entity.Product;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ProductNearCacheTest {
+
+    @Test
+    void evictionDuringALoadDropsTheLoadedValue() throws Exception {
+        ProductNearCache cache = new ProductNearCache(100, 30);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // Reader loads v1 and is slow to finish
+        CompletableFuture<Optional<Product>> reader = CompletableFuture.supplyAsync(() -> cache.get(1L, id -> {
+            loading.countDown();
+            await(release);
+            return Optional.of(product(1));
+        }));
+        loading.await(5, TimeUnit.SECONDS);
+
+        // Writer commits v2 and evicts while the load is still in flight
+        Thread writer = new Thread(() -> cache.evict(1L));
+        writer.start();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (writer.getState() == Thread.State.RUNNABLE && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+        writer.join(5000);
+
+        assertEquals(1, reader.get(5, TimeUnit.SECONDS).orElseThrow().getQuantity());
+        assertEquals(2, cache.get(1L, id -> Optional.of(product(2))).orElseThrow().getQuantity());
+    }
+
+    @Test
+    void missingProductsAreNotCached() {
+        ProductNearCache cache = new ProductNearCache(100, 30);
+
+        assertEquals(Optional.empty(), cache.get(1L, id -> Optional.empty()));
+        assertEquals(3, cache.get(1L, id -> Optional.of(product(3))).orElseThrow().getQuantity());
+    }
+
+    private static Product product(int version) {
+        return Product.builder().id(1L).name("Cached").quantity(version).build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.productmanagement.controller;
+
+import com.example.productmanagement.entity.Product;
+import com.example.productmanagement.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.example.productmanagement.monitoring.QueryCountAssertions.assertMaxStatements;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Statement budgets for every ProductController endpoint; raise one only with a reason
+@SpringBootTest(classes = com.example.productmanagement.ProductManagementApplication.class)
+@AutoConfigureMockMvc
+class ProductControllerQueryCountTest {
+
+    private static final AtomicInteger names = new AtomicInteger();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        product = productRepository.save(Product.builder()
+                .name("Query Count Product " + names.incrementAndGet())
+                .description("Product used by query count tests")
+                .price(new BigDecimal("19.99"))
+                .quantity(10)
+                .build());
+    }
+
+    @Test
+    void createProduct() throws Exception {
+        // name check + insert + change log; the suggestion index refreshes in the background
+        assertMaxStatements(3, () -> mockMvc.perform(post("/products")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json("Query Count New " + names.incrementAndGet(), 5)))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Server-Timing", startsWith("db;dur="))));
+    }
+
+    @Test
+    void getAllProducts() throws Exception {
+        // page + count
+        assertMaxStatements(2, () -> mockMvc.perform(get("/products?page=0&size=10"))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void searchProducts() throws Exception {
+        // page + count
+        assertMaxStatements(2, () -> mockMvc.perform(get("/products?search=query"))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void getProductById() throws Exception {
+        assertMaxStatements(1, () -> mockMvc.perform(get("/products/" + product.getId()))
+                .andExpect(status().isOk()));
+        // Served from the near cache
+        assertMaxStatements(0, () -> mockMvc.perform(get("/products/" + product.getId()))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void updateProduct() throws Exception {
+        // load + update + change log
+        assertMaxStatements(3, () -> mockMvc.perform(put("/products/" + product.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(product.getName(), 7)))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void patchProduct() throws Exception {
+        // update + change log
+        assertMaxStatements(2, () -> mockMvc.perform(patch("/products/" + product.getId())
+                        .header("Prefer", "return=minimal")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"quantity\": 3, \"version\": " + product.getVersion() + "}"))
+                .andExpect(status().isNoContent())
+                .andExpect(header().exists("Server-Timing")));
+    }
+
+    @Test
+    void patchRejectsValuesTheEntityWouldRejectBeforeTouchingTheDatabase() throws Exception {
+        // " a " passes @Size on the request but trims to a one-character name
+        assertMaxStatements(0, () -> mockMvc.perform(patch("/products/" + product.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \" a \"}"))
+                .andExpect(status().isBadRequest()));
+        // 11 integer digits overflow DECIMAL(12,2)
+        assertMaxStatements(0, () -> mockMvc.perform(patch("/products/" + product.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"price\": \"12345678901.00\"}"))
+                .andExpect(status().isBadRequest()));
+    }
+
+    @Test
+    void deleteProduct() throws Exception {
+        // exists + load + delete + change log
+        assertMaxStatements(4, () -> mockMvc.perform(delete("/products/" + product.getId()))
+                .andExpect(status().isNoContent()));
+    }
+
+    @Test
+    void checkStockAvailability() throws Exception {
+        assertMaxStatements(1, () -> mockMvc.perform(get("/products/" + product.getId() + "/stock?quantity=1"))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void adjustStock() throws Exception {
+        // conditional update + quantity read + change log
+        assertMaxStatements(3, () -> mockMvc.perform(post("/products/" + product.getId() + "/stock/adjust?delta=-3"))
+                .andExpect(status().isOk()));
+        // Rejected decrements roll back without a change log row
+        assertMaxStatements(2, () -> mockMvc.perform(post("/products/" + product.getId() + "/stock/adjust?delta=-8"))
+                .andExpect(status().isConflict()));
+    }
+
+    @Test
+    void suggestProducts() throws Exception {
+        assertMaxStatements(0, () -> mockMvc.perform(get("/products/suggest?prefix=query"))
+                .andExpect(status().isOk()));
+    }
+
+    private static String json(String name, int quantity) {
+        return "{\"name\": \"" + name + "\", \"description\": \"Query count test\", "
+                + "\"price\": \"9.99\", \"quantity\": " + quantity + "}";
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.productmanagement.generator;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CatalogGeneratorTest {
+
+    private static final int ROWS = 100_000;
+
+    @Test
+    void rowDependsOnlyOnSeedAndIndex() {
+        CatalogGenerator forward = new CatalogGenerator(42);
+        CatalogGenerator backward = new CatalogGenerator(42);
+
+        // A second instance visiting rows in the opposite order, as another loader thread would
+        for (long i = 999; i >= 0; i--) {
+            backward.row(i);
+        }
+        for (long i = 0; i < 1000; i++) {
+            assertEquals(forward.row(i), backward.row(i));
+        }
+        assertNotEquals(new CatalogGenerator(42).row(7), new CatalogGenerator(43).row(7));
+    }
+
+    @Test
+    void rowsFitTheProductConstraintsAndDistributions() {
+        CatalogGenerator generator = new CatalogGenerator(42);
+        Set<String> names = new HashSet<>();
+        int outOfStock = 0;
+
+        for (long i = 0; i < ROWS; i++) {
+            CatalogGenerator.CatalogRow row = generator.row(i);
+
+            assertTrue(names.add(row.name()), "duplicate name " + row.name());
+            assertTrue(row.name().length() <= 100, row.name());
+            assertTrue(row.description().length() <= 500, row.description());
+            assertEquals(2, row.price().scale());
+            assertTrue(row.price().compareTo(new BigDecimal("0.99")) >= 0, row.price().toPlainString());
+            assertTrue(row.price().compareTo(new BigDecimal("99999.99")) <= 0, row.price().toPlainString());
+            assertTrue(row.quantity() >= 0 && row.quantity() <= 10_000, String.valueOf(row.quantity()));
+            assertTrue(!row.updatedAt().isBefore(row.createdAt()));
+            if (row.quantity() == 0) {
+                outOfStock++;
+            }
+        }
+
+        double outOfStockShare = outOfStock / (double) ROWS;
+        assertTrue(outOfStockShare > 0.07 && outOfStockShare < 0.09, "out of stock share " + outOfStockShare);
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.productmanagement.inventory;
+
+import com.example.productmanagement.entity.Product;
+import com.example.productmanagement.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.LongConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Decrements per second on a single SKU from many threads: conditional row UPDATEs against the
+ * ledger. Opt-in: {@code mvn test -Dtest=InventoryLedgerBenchmark -Dbenchmark=true}
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest(classes = com.example.productmanagement.ProductManagementApplication.class)
+class InventoryLedgerBenchmark {
+
+    private static final int THREADS = 16;
+    private static final int START_QUANTITY = 10_000_000;
+
+    @Autowired
+    private InventoryStore store;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @TempDir
+    private Path journalDir;
+
+    @Test
+    void compareRowUpdatesWithLedger() throws Exception {
+        Long rowId = product("Ledger Benchmark Row SKU");
+        Long ledgerId = product("Ledger Benchmark Ledger SKU");
+
+        InventoryLedger ledger = new InventoryLedger(store, journalDir.toString(), "benchmark", 0);
+        ledger.recover();
+
+        StringBuilder report = new StringBuilder("Single-SKU decrements, " + THREADS + " threads\n");
+        report.append(run("row UPDATE", 500, op -> store.adjust(rowId, -1)));
+        report.append(run("ledger", 100_000, op -> ledger.adjust(ledgerId, -1)));
+
+        ledger.shutdown();
+        assertEquals(START_QUANTITY - THREADS * 100_000, store.findQuantity(ledgerId).orElseThrow());
+        System.err.println(report);
+    }
+
+    private String run(String mode, int perThread, LongConsumer operation) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            long start = System.nanoTime();
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                workers.add(pool.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        operation.accept(i);
+                    }
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            return String.format("  %-12s %,10.0f ops/s%n", mode, THREADS * (double) perThread / seconds);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private Long product(String name) {
+        return productRepository.save(Product.builder()
+                .name(name)
+                .description("Product used by the ledger benchmark")
+                .price(new BigDecimal("1.00"))
+                .quantity(START_QUANTITY)
+                .build()).getId();
+    }
+}
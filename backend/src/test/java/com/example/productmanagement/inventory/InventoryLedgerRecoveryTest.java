@@ -0,0 +1,189 @@
+package com.example.productmanagement.inventory;
+
+import com.example.productmanagement.entity.Product;
+import com.example.productmanagement.exception.InsufficientStockException;
+import com.example.productmanagement.repository.InventoryCheckpointRepository;
+import com.example.productmanagement.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Ledgers are built by hand so a "crash" is simply dropping one without shutdown()
+@SpringBootTest(classes = com.example.productmanagement.ProductManagementApplication.class)
+class InventoryLedgerRecoveryTest {
+
+    private static final String LEDGER = "recovery-test";
+
+    @Autowired
+    private InventoryStore store;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private InventoryCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    private Path journalDir;
+
+    @Test
+    void replaysUnflushedChangesExactlyOnceAfterCrash() throws IOException {
+        Long id = productRepository.save(Product.builder()
+                .name("Ledger Recovery Product")
+                .description("Product used by the ledger recovery test")
+                .price(new BigDecimal("5.00"))
+                .quantity(100)
+                .build()).getId();
+
+        InventoryLedger ledger = ledger();
+        ledger.adjust(id, -30);
+        ledger.adjust(id, 5);
+        ledger.flush();
+        assertEquals(75, quantity(id));
+
+        assertEquals(65, ledger.adjust(id, -10));
+        assertThrows(InsufficientStockException.class, () -> ledger.adjust(id, -66));
+        assertEquals(65, ledger.available(id).getAsLong());
+
+        // Crash mid-write: the last record only partly reached the file
+        List<Path> segments = journalFiles();
+        assertEquals(1, segments.size());
+        Files.write(segments.get(0), new byte[]{1, 2, 3, 4, 5, 6, 7}, StandardOpenOption.APPEND);
+        byte[] segmentBytes = Files.readAllBytes(segments.get(0));
+        assertEquals(75, quantity(id));
+
+        InventoryLedger restarted = ledger();
+        assertEquals(65, quantity(id));
+        assertTrue(journalFiles().isEmpty());
+        long checkpoint = checkpointRepository.findById(LEDGER).orElseThrow().getSegment();
+
+        // Crash after the recovery commit but before the segment was deleted
+        Files.write(segments.get(0), segmentBytes);
+        ledger();
+        assertEquals(65, quantity(id));
+        assertEquals(checkpoint, checkpointRepository.findById(LEDGER).orElseThrow().getSegment());
+
+        assertEquals(60, restarted.adjust(id, -5));
+        restarted.shutdown();
+        assertEquals(60, quantity(id));
+    }
+
+    @Test
+    void failedAppendDoesNotHideLaterChanges() throws IOException {
+        Long id = productRepository.save(Product.builder()
+                .name("Ledger Failed Append Product")
+                .description("Product used by the ledger recovery test")
+                .price(new BigDecimal("5.00"))
+                .quantity(100)
+                .build()).getId();
+
+        AtomicBoolean failNext = new AtomicBoolean();
+        InventoryLedger ledger = new InventoryLedger(store, journalDir.toString(), LEDGER + "-append", 1,
+                (dir, stripe) -> new InventoryJournal(dir, stripe) {
+                    @Override
+                    protected void write(FileChannel channel, ByteBuffer record) throws IOException {
+                        if (failNext.getAndSet(false)) {
+                            // Disk full after part of the record made it out
+                            channel.write(record.slice(0, 7));
+                            throw new IOException("No space left on device");
+                        }
+                        super.write(channel, record);
+                    }
+                });
+        ledger.recover();
+
+        assertEquals(90, ledger.adjust(id, -10));
+        failNext.set(true);
+        assertThrows(UncheckedIOException.class, () -> ledger.adjust(id, -5));
+        assertEquals(90, ledger.available(id).getAsLong());
+        assertEquals(87, ledger.adjust(id, -3));
+
+        // Crash, then recover with a plain journal
+        new InventoryLedger(store, journalDir.toString(), LEDGER + "-append", 1).recover();
+        assertEquals(87, quantity(id));
+    }
+
+    @Test
+    void hotProductGetsOneChangeRowPerInterval() {
+        Long id = productRepository.save(Product.builder()
+                .name("Ledger Change Row Product")
+                .description("Product used by the ledger recovery test")
+                .price(new BigDecimal("5.00"))
+                .quantity(10)
+                .build()).getId();
+
+        InventoryLedger ledger = new InventoryLedger(store, journalDir.toString(), LEDGER + "-changes", 2);
+        ReflectionTestUtils.setField(ledger, "changeIntervalMs", 60_000L);
+        ledger.recover();
+
+        ledger.adjust(id, -1);
+        ledger.flush();
+        assertEquals(1, changeRows(id));
+
+        // Every flush within the interval still writes the stock, but not another change row
+        for (int i = 0; i < 5; i++) {
+            ledger.adjust(id, -1);
+            ledger.flush();
+        }
+        assertEquals(4, quantity(id));
+        assertEquals(1, changeRows(id));
+
+        // Selling out is announced at once
+        ledger.adjust(id, -4);
+        ledger.flush();
+        assertEquals(2, changeRows(id));
+
+        // A change held back by the interval is announced by a later flush, even with nothing new to write
+        ledger.adjust(id, 3);
+        ledger.flush();
+        assertEquals(3, changeRows(id));
+        ledger.adjust(id, -1);
+        ledger.flush();
+        assertEquals(3, changeRows(id));
+        ReflectionTestUtils.setField(ledger, "changeIntervalMs", 0L);
+        ledger.flush();
+        assertEquals(4, changeRows(id));
+    }
+
+    private long changeRows(Long id) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product_changes WHERE product_id = ?", Long.class, id);
+    }
+
+    private InventoryLedger ledger() {
+        InventoryLedger ledger = new InventoryLedger(store, journalDir.toString(), LEDGER, 2);
+        ledger.recover();
+        return ledger;
+    }
+
+    private int quantity(Long id) {
+        return store.findQuantity(id).orElseThrow();
+    }
+
+    private List<Path> journalFiles() throws IOException {
+        try (Stream<Path> files = Files.list(journalDir)) {
+            return files.toList();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.productmanagement.limiter;
+
+import com.example.productmanagement.limiter.AdaptiveConcurrencyLimiter.Admission;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = 1_000_000;
+    private static final long SLOW = 10_000_000;
+
+    @Test
+    void lanesStopAtTheirShareWhileOthersStillGetIn() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 100, 2.0);
+
+        assertEquals(5, acquireAll(limiter, RequestLane.BULK));
+        assertEquals(Admission.LANE_FULL, limiter.tryAcquire(RequestLane.BULK));
+        assertEquals(2, acquireAll(limiter, RequestLane.SEARCH));
+        assertEquals(2, acquireAll(limiter, RequestLane.SINGLE_ITEM));
+        assertEquals(1, acquireAll(limiter, RequestLane.STOCK));
+
+        assertEquals(10, limiter.getInFlight());
+        assertEquals(Admission.OVERLOADED, limiter.tryAcquire(RequestLane.STOCK));
+        assertEquals(Admission.OVERLOADED, limiter.tryAcquire(RequestLane.BULK));
+    }
+
+    @Test
+    void everyLaneGetsAtLeastOneSlot() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 100, 2.0);
+
+        assertEquals(Admission.ACCEPTED, limiter.tryAcquire(RequestLane.BULK));
+        assertEquals(Admission.OVERLOADED, limiter.tryAcquire(RequestLane.STOCK));
+    }
+
+    @Test
+    void limitGrowsWhileLatencyStaysFlatAndTheLimitIsUsed() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 100, 2.0);
+
+        for (int round = 0; round < 20; round++) {
+            saturateAndRelease(limiter, FAST, false);
+        }
+
+        assertTrue(limiter.getLimit() > 10, "limit was " + limiter.getLimit());
+    }
+
+    @Test
+    void limitHoldsWhenMostOfItIsIdle() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 100, 2.0);
+
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire(RequestLane.STOCK);
+            limiter.release(FAST, false);
+        }
+
+        assertEquals(10, limiter.getLimit());
+    }
+
+    @Test
+    void limitShrinksWhenLatencyRises() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(50, 1, 100, 2.0);
+        saturateAndRelease(limiter, FAST, false);
+        int before = limiter.getLimit();
+
+        for (int round = 0; round < 10; round++) {
+            saturateAndRelease(limiter, SLOW * 5, false);
+        }
+
+        assertTrue(limiter.getLimit() < before, "limit stayed at " + limiter.getLimit());
+    }
+
+    @Test
+    void failuresBackOffDownToTheMinimum() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(100, 4, 200, 2.0);
+
+        limiter.tryAcquire(RequestLane.STOCK);
+        limiter.release(FAST, true);
+        assertEquals(90, limiter.getLimit());
+
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire(RequestLane.STOCK);
+            limiter.release(FAST, true);
+        }
+        assertEquals(4, limiter.getLimit());
+    }
+
+    @Test
+    void limitNeverExceedsTheMaximum() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 12, 2.0);
+
+        for (int round = 0; round < 50; round++) {
+            saturateAndRelease(limiter, FAST, false);
+        }
+
+        assertEquals(12, limiter.getLimit());
+    }
+
+    private static int acquireAll(AdaptiveConcurrencyLimiter limiter, RequestLane lane) {
+        int accepted = 0;
+        while (limiter.tryAcquire(lane) == Admission.ACCEPTED) {
+            accepted++;
+        }
+        return accepted;
+    }
+
+    private static void saturateAndRelease(AdaptiveConcurrencyLimiter limiter, long rttNanos, boolean dropped) {
+        int held = acquireAll(limiter, RequestLane.STOCK);
+        for (int i = 0; i < held; i++) {
+            limiter.release(rttNanos, dropped);
+        }
+    }
+}
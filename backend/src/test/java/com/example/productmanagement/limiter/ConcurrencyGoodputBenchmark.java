@@ -0,0 +1,128 @@
+package com.example.productmanagement.limiter;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Goodput past saturation: many threads paging through products against a 4-connection pool, with the
+ * limiter on and off. Opt-in: {@code mvn test -Dtest=ConcurrencyGoodputBenchmark -Dbenchmark=true}
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ConcurrencyGoodputBenchmark {
+
+    private static final int THREADS = 64;
+    private static final long DURATION_NANOS = 10_000_000_000L;
+    private static final int PRODUCTS = 5_000;
+
+    @Nested
+    @TestPropertySource(properties = {
+            "spring.datasource.url=jdbc:h2:mem:goodput_on;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+            "app.concurrency.enabled=true"})
+    class LimiterOn extends Scenario {
+    }
+
+    @Nested
+    @TestPropertySource(properties = {
+            "spring.datasource.url=jdbc:h2:mem:goodput_off;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+            "app.concurrency.enabled=false"})
+    class LimiterOff extends Scenario {
+    }
+
+    @SpringBootTest(classes = com.example.productmanagement.ProductManagementApplication.class, properties = {
+            "spring.datasource.hikari.maximum-pool-size=4",
+            "spring.datasource.hikari.connection-timeout=250"})
+    @AutoConfigureMockMvc
+    abstract static class Scenario {
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
+        @Test
+        void listingPastSaturation() throws Exception {
+            seed();
+
+            AtomicInteger ok = new AtomicInteger();
+            AtomicInteger shed = new AtomicInteger();
+            AtomicInteger failed = new AtomicInteger();
+            List<long[]> latencies = new ArrayList<>();
+            ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+            long deadline = System.nanoTime() + DURATION_NANOS;
+            try {
+                List<Future<long[]>> workers = new ArrayList<>();
+                for (int t = 0; t < THREADS; t++) {
+                    int seed = t;
+                    workers.add(pool.submit(() -> {
+                        SplittableRandom random = new SplittableRandom(seed);
+                        long[] samples = new long[1 << 16];
+                        int count = 0;
+                        while (System.nanoTime() < deadline) {
+                            String page = String.valueOf(random.nextInt(PRODUCTS / 20));
+                            long start = System.nanoTime();
+                            int status = mockMvc.perform(get("/products").param("page", page).param("size", "20"))
+                                    .andReturn().getResponse().getStatus();
+                            long elapsed = System.nanoTime() - start;
+                            if (status == 200) {
+                                ok.incrementAndGet();
+                                if (count < samples.length) {
+                                    samples[count++] = elapsed;
+                                }
+                            } else if (status == 429 || status == 503) {
+                                shed.incrementAndGet();
+                            } else {
+                                failed.incrementAndGet();
+                            }
+                        }
+                        return Arrays.copyOf(samples, count);
+                    }));
+                }
+                for (Future<long[]> worker : workers) {
+                    latencies.add(worker.get());
+                }
+            } finally {
+                pool.shutdown();
+            }
+
+            long[] all = latencies.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+            double seconds = DURATION_NANOS / 1e9;
+            System.err.printf("%s: goodput=%.0f req/s shed=%.0f req/s failed=%d p50=%.1fms p99=%.1fms%n",
+                    getClass().getSimpleName(), ok.get() / seconds, shed.get() / seconds, failed.get(),
+                    percentile(all, 0.50), percentile(all, 0.99));
+        }
+
+        private void seed() {
+            LocalDateTime now = LocalDateTime.now();
+            List<Object[]> rows = new ArrayList<>();
+            for (int i = 0; i < PRODUCTS; i++) {
+                rows.add(new Object[]{"Goodput product " + i, "Product used by the goodput benchmark", 9.99, 10, now, now});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO products (name, description, price, quantity, created_at, updated_at, version) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, 0)", rows);
+        }
+
+        private static double percentile(long[] sorted, double p) {
+            return sorted.length == 0 ? 0 : sorted[(int) ((sorted.length - 1) * p)] / 1e6;
+        }
+    }
+}
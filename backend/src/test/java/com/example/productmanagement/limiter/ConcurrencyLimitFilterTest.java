@@ -0,0 +1,47 @@
+package com.example.productmanagement.limiter;
+
+import com.example.productmanagement.logging.RequestIdFilter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(classes = com.example.productmanagement.ProductManagementApplication.class)
+@AutoConfigureMockMvc
+class ConcurrencyLimitFilterTest {
+
+    private static final String ORIGIN = "http://localhost:5173";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @Test
+    void shedResponsesAreReadableCrossOrigin() throws Exception {
+        int held = 0;
+        while (limiter.tryAcquire(RequestLane.STOCK) == AdaptiveConcurrencyLimiter.Admission.ACCEPTED) {
+            held++;
+        }
+        try {
+            mockMvc.perform(get("/products/1/stock?quantity=1").header(HttpHeaders.ORIGIN, ORIGIN))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                    .andExpect(header().exists(RequestIdFilter.REQUEST_ID_HEADER))
+                    .andExpect(header().string(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, ORIGIN))
+                    .andExpect(header().string(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, containsString("Retry-After")));
+        } finally {
+            for (int i = 0; i < held; i++) {
+                limiter.release(1_000_000, false);
+            }
+        }
+    }
+}
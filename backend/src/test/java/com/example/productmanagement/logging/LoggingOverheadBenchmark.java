@@ -0,0 +1,97 @@
+package com.example.productmanagement.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import com.example.productmanagement.entity.Product;
+import com.example.productmanagement.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Request latency with logging off, on with read sampling, and on without sampling.
+ * Opt-in because it takes a while and floods the console:
+ * {@code mvn test -Dtest=LoggingOverheadBenchmark -Dbenchmark=true}
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest(classes = com.example.productmanagement.ProductManagementApplication.class)
+@AutoConfigureMockMvc
+class LoggingOverheadBenchmark {
+
+    private static final int WARMUP = 5_000;
+    private static final int REQUESTS = 20_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    void compareLoggingModes() throws Exception {
+        Long id = productRepository.save(Product.builder()
+                .name("Logging Benchmark Product")
+                .description("Product used by the logging benchmark")
+                .price(new BigDecimal("9.99"))
+                .quantity(10)
+                .build()).getId();
+
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        ch.qos.logback.classic.Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        LogSamplingFilter sampling = context.getTurboFilterList().stream()
+                .filter(LogSamplingFilter.class::isInstance)
+                .map(LogSamplingFilter.class::cast)
+                .findFirst()
+                .orElseThrow();
+
+        StringBuilder report = new StringBuilder("Logging overhead (GET /products/{id}, near cache hit)\n");
+        try {
+            // First round only warms up the JIT for every mode; the second one is reported
+            for (int round = 0; round < 2; round++) {
+                report.setLength(report.indexOf("\n") + 1);
+
+                root.setLevel(Level.OFF);
+                report.append(run("off", id));
+
+                root.setLevel(Level.INFO);
+                sampling.setSampleRate(100);
+                report.append(run("on, reads sampled 1/100", id));
+
+                sampling.setSampleRate(1);
+                report.append(run("on, unsampled", id));
+            }
+        } finally {
+            root.setLevel(Level.INFO);
+            sampling.setSampleRate(100);
+        }
+        System.err.println(report);
+    }
+
+    private String run(String mode, Long id) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            mockMvc.perform(get("/products/" + id)).andExpect(status().isOk());
+        }
+        long[] samples = new long[REQUESTS];
+        for (int i = 0; i < REQUESTS; i++) {
+            long start = System.nanoTime();
+            mockMvc.perform(get("/products/" + id)).andExpect(status().isOk());
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return String.format("  %-26s p50=%6.1fus p99=%7.1fus p99.9=%7.1fus%n", mode,
+                samples[REQUESTS / 2] / 1_000.0,
+                samples[(int) (REQUESTS * 0.99)] / 1_000.0,
+                samples[(int) (REQUESTS * 0.999)] / 1_000.0);
+    }
+}
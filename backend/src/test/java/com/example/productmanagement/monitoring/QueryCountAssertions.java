@@ -0,0 +1,24 @@
+package com.example.productmanagement.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Test helper: fails when the wrapped call issues more SQL statements than allowed
+public final class QueryCountAssertions {
+
+    @FunctionalInterface
+    public interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+
+    private QueryCountAssertions() {
+    }
+
+    public static void assertMaxStatements(int maxStatements, ThrowingRunnable action) throws Exception {
+        try (SqlStats.Scope scope = SqlStats.open()) {
+            action.run();
+            assertThat(scope.getStatements())
+                    .as("SQL statements issued")
+                    .isLessThanOrEqualTo(maxStatements);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.productmanagement.monitoring;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.jupiter.api.Test;
+
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SqlMonitoringListenerTest {
+
+    @Test
+    void subMillisecondStatementsStillAddTime() {
+        SqlMonitoringListener listener = new SqlMonitoringListener(200);
+        List<QueryInfo> queries = List.of(new QueryInfo("SELECT 1"));
+
+        try (SqlStats.Scope scope = SqlStats.open()) {
+            for (int i = 0; i < 3; i++) {
+                ExecutionInfo execution = new ExecutionInfo();
+                listener.beforeQuery(execution, queries);
+                // datasource-proxy reports this as 0 ms
+                execution.setElapsedTime(0);
+                listener.afterQuery(execution, queries);
+            }
+
+            assertEquals(3, scope.getStatements());
+            assertTrue(scope.getElapsedMillis() > 0, "elapsed was " + scope.getElapsedMillis());
+        }
+    }
+
+    @Test
+    void slowQueryParamsAreBoundedAndShowNulls() throws Exception {
+        QueryInfo batch = new QueryInfo("INSERT INTO products (name, description) VALUES (?, ?)");
+        for (int i = 0; i < 5000; i++) {
+            List<ParameterSetOperation> entry = new ArrayList<>();
+            entry.add(new ParameterSetOperation(PreparedStatement.class.getMethod("setString", int.class, String.class),
+                    new Object[]{1, "x".repeat(500)}));
+            entry.add(new ParameterSetOperation(PreparedStatement.class.getMethod("setNull", int.class, int.class),
+                    new Object[]{2, Types.VARCHAR}));
+            batch.getParametersList().add(entry);
+        }
+
+        String params = SqlMonitoringListener.formatParams(List.of(batch));
+
+        assertTrue(params.length() < 1000, "params length was " + params.length());
+        assertTrue(params.contains("NULL"));
+        assertFalse(params.contains(String.valueOf(Types.VARCHAR)));
+        assertTrue(params.endsWith("... 4997 more entries"));
+    }
+}
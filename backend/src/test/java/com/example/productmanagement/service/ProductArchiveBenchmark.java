@@ -0,0 +1,101 @@
+package com.example.productmanagement.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Listing, search and count timings before and after archiving dead stock.
+ * Opt-in: {@code mvn test -Dtest=ProductArchiveBenchmark -Dbenchmark=true}
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest(classes = com.example.productmanagement.ProductManagementApplication.class)
+class ProductArchiveBenchmark {
+
+    private static final int PRODUCTS = 300_000;
+    // Every n-th product is zero stock and untouched for a year
+    private static final int DEAD_EVERY = 2;
+    private static final int RUNS = 20;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductArchiveService archiveService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void scanAndCountBeforeAndAfterArchiving() {
+        seed();
+
+        String before = measure("before");
+        long start = System.nanoTime();
+        int archived = 0;
+        for (int moved; (moved = archiveService.archiveBatch()) > 0; ) {
+            archived += moved;
+        }
+        double archiveSeconds = (System.nanoTime() - start) / 1e9;
+        String after = measure("after");
+
+        System.err.printf("Archive benchmark (%,d products, %,d archived in %.1fs)%n%s%s", PRODUCTS, archived,
+                archiveSeconds, before, after);
+    }
+
+    private String measure(String label) {
+        PageRequest deepPage = PageRequest.of(500, 20, Sort.by("name"));
+        PageRequest firstPage = PageRequest.of(0, 20, Sort.by("id"));
+        double list = 0;
+        double search = 0;
+        double count = 0;
+        for (int run = -3; run < RUNS; run++) {
+            long t0 = System.nanoTime();
+            productService.getAllProducts(deepPage);
+            long t1 = System.nanoTime();
+            productService.searchProducts("item 12", firstPage);
+            long t2 = System.nanoTime();
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM products", Long.class);
+            long t3 = System.nanoTime();
+            // Negative runs only warm up
+            if (run >= 0) {
+                list += (t1 - t0) / 1e6;
+                search += (t2 - t1) / 1e6;
+                count += (t3 - t2) / 1e6;
+            }
+        }
+        long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM products", Long.class);
+        return String.format("  %-7s rows=%,8d list(page 500 by name)=%7.1fms search=%7.1fms count=%6.1fms%n",
+                label, rows, list / RUNS, search / RUNS, count / RUNS);
+    }
+
+    private void seed() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime stale = now.minusYears(1);
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < PRODUCTS; i++) {
+            boolean dead = i % DEAD_EVERY == 0;
+            LocalDateTime updated = dead ? stale : now;
+            rows.add(new Object[]{"Archive benchmark item " + i, "Product used by the archive benchmark",
+                    9.99, dead ? 0 : 1 + i % 50, updated, updated});
+            if (rows.size() == 5_000) {
+                insert(rows);
+                rows.clear();
+            }
+        }
+        insert(rows);
+    }
+
+    private void insert(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate("INSERT INTO products (name, description, price, quantity, created_at, updated_at, version) "
+                + "VALUES (?, ?, ?, ?, ?, ?, 0)", rows);
+    }
+}
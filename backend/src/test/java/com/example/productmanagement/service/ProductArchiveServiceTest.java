@@ -0,0 +1,121 @@
+package com.example.productmanagement.service;
+
+import com.example.productmanagement.entity.Product;
+import com.example.productmanagement.event.ProductChangedEvent;
+import com.example.productmanagement.event.ProductChangedEvent.ChangeType;
+import com.example.productmanagement.exception.DuplicateProductException;
+import com.example.productmanagement.repository.ArchivedProductRepository;
+import com.example.productmanagement.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.reset;
+
+@SpringBootTest(classes = com.example.productmanagement.ProductManagementApplication.class)
+@RecordApplicationEvents
+class ProductArchiveServiceTest {
+
+    @Autowired
+    private ProductArchiveService archiveService;
+
+    @MockitoSpyBean
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ArchivedProductRepository archivedProductRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @Test
+    void archivesOnlyStaleZeroStockAndRestoresWithTheSameId() {
+        Long stale = product("Archive Stale Product", 0, 200);
+        Long recent = product("Archive Recent Product", 0, 1);
+        Long stocked = product("Archive Stocked Product", 5, 200);
+
+        archiveUntilEmpty();
+
+        assertFalse(productRepository.existsById(stale));
+        assertTrue(archivedProductRepository.existsById(stale));
+        assertTrue(productRepository.existsById(recent));
+        assertTrue(productRepository.existsById(stocked));
+        assertEquals(List.of(stale), deletedIds());
+
+        Product restored = archiveService.restoreProduct(stale);
+        assertEquals(stale, restored.getId());
+        assertEquals(1L, restored.getVersion());
+        assertFalse(archivedProductRepository.existsById(stale));
+    }
+
+    @Test
+    void restockedCandidateIsNotReportedAsDeleted() {
+        Long stale = product("Archive Race Stale Product", 0, 200);
+        Long restocked = product("Archive Race Restocked Product", 7, 200);
+
+        // The restock lands between the candidate select and the copy
+        doReturn(List.of(stale, restocked)).doReturn(List.of())
+                .when(productRepository).findArchivableIds(any(), any());
+        try {
+            archiveUntilEmpty();
+        } finally {
+            reset(productRepository);
+        }
+
+        assertTrue(productRepository.existsById(restocked));
+        assertTrue(deletedIds().contains(stale));
+        assertFalse(deletedIds().contains(restocked));
+    }
+
+    @Test
+    void restoreRefusesADuplicateName() {
+        Long stale = product("Archive Duplicate Product", 0, 200);
+        archiveUntilEmpty();
+        product("Archive Duplicate Product", 3, 0);
+
+        assertThrows(DuplicateProductException.class, () -> archiveService.restoreProduct(stale));
+        assertTrue(archivedProductRepository.existsById(stale));
+    }
+
+    private void archiveUntilEmpty() {
+        for (int batch = 0; batch < 100 && archiveService.archiveBatch() > 0; batch++) {
+            // keep going
+        }
+    }
+
+    private List<Long> deletedIds() {
+        return events.stream(ProductChangedEvent.class)
+                .filter(event -> event.type() == ChangeType.DELETED)
+                .map(ProductChangedEvent::productId)
+                .toList();
+    }
+
+    private Long product(String name, int quantity, int daysSinceUpdate) {
+        Long id = productRepository.save(Product.builder()
+                .name(name)
+                .description("Product used by the archive test")
+                .price(new BigDecimal("2.00"))
+                .quantity(quantity)
+                .build()).getId();
+        jdbcTemplate.update("UPDATE products SET updated_at = ? WHERE id = ?",
+                LocalDateTime.now().minusDays(daysSinceUpdate), id);
+        return id;
+    }
+}
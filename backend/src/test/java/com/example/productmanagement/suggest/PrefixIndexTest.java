@@ -0,0 +1,162 @@
+package com.example.productmanagement.suggest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PrefixIndexTest {
+
+    @Test
+    void prefixRangeStopsAtItsBounds() {
+        PrefixIndex index = PrefixIndex.build(List.of(
+                PrefixIndex.Entry.of(1, "ap", 1),
+                PrefixIndex.Entry.of(2, "app", 2),
+                PrefixIndex.Entry.of(3, "apple", 3),
+                PrefixIndex.Entry.of(4, "apricot", 4),
+                PrefixIndex.Entry.of(5, "banana", 5)));
+
+        assertEquals(List.of(3L, 2L), ids(index, "app", Set.of()));
+        assertEquals(List.of(4L, 3L, 2L, 1L), ids(index, "ap", Set.of()));
+        assertEquals(List.of(5L), ids(index, "banana", Set.of()));
+        assertEquals(List.of(), ids(index, "bananas", Set.of()));
+        assertEquals(List.of(), ids(index, "a0", Set.of()));
+        assertEquals(List.of(), ids(index, "zzz", Set.of()));
+    }
+
+    @Test
+    void precomputedPrefixMatchesAFullScan() {
+        Random random = new Random(7);
+        List<PrefixIndex.Entry> entries = new ArrayList<>();
+        for (long id = 1; id <= 5000; id++) {
+            // Few distinct scores, so ties are broken by id
+            entries.add(PrefixIndex.Entry.of(id, "Widget " + id, random.nextInt(50)));
+        }
+        entries.add(PrefixIndex.Entry.of(9001, "Gadget", 100));
+        PrefixIndex index = PrefixIndex.build(entries);
+
+        List<Long> best = bruteForce(entries, "widget", Set.of(), 40);
+        Set<Long> fewRemoved = Set.of(best.get(0), best.get(5));
+        // Enough removals that the precomputed list cannot fill a result on its own
+        Set<Long> manyRemoved = new HashSet<>(best.subList(0, 30));
+
+        for (Set<Long> excluded : List.of(Set.<Long>of(), fewRemoved, manyRemoved)) {
+            assertEquals(bruteForce(entries, "widget", excluded, PrefixIndex.MAX_RESULTS),
+                    ids(index, "widget", excluded));
+            assertEquals(bruteForce(entries, "widget 1", excluded, PrefixIndex.MAX_RESULTS),
+                    ids(index, "widget 1", excluded));
+        }
+    }
+
+    @Test
+    void largePrefixIsNotRescannedAfterManyUpdates() {
+        List<PrefixIndex.Entry> entries = new ArrayList<>();
+        for (long id = 1; id <= 50_000; id++) {
+            entries.add(PrefixIndex.Entry.of(id, "Widget " + id, (int) (id % 1000)));
+        }
+        PrefixIndex index = PrefixIndex.build(entries);
+
+        // The best-stocked products are the ones updated most, and updated ids are excluded from the snapshot
+        Set<Long> updated = new HashSet<>(bruteForce(entries, "widget", Set.of(), 500));
+        CountingSet excluded = new CountingSet(updated);
+
+        assertEquals(bruteForce(entries, "widget", updated, PrefixIndex.MAX_RESULTS), ids(index, "widget", excluded));
+        excluded.lookups = 0;
+        for (int i = 0; i < 100; i++) {
+            assertEquals(bruteForce(entries, "widget", updated, PrefixIndex.MAX_RESULTS), ids(index, "widget", excluded));
+        }
+        assertTrue(excluded.lookups < 100 * 2048, "excluded lookups: " + excluded.lookups);
+    }
+
+    @Test
+    void accentsCaseAndSpacingAreNormalized() {
+        PrefixIndex index = PrefixIndex.build(List.of(
+                PrefixIndex.Entry.of(1, "Crème Brûlée", 1),
+                PrefixIndex.Entry.of(2, "  Café   Noir ", 2)));
+
+        assertEquals("cafe noir", PrefixIndex.normalize("  Café   Noir "));
+        assertEquals(List.of(1L), ids(index, PrefixIndex.normalize("CREME BRU"), Set.of()));
+        assertEquals(List.of(2L), ids(index, PrefixIndex.normalize("café n"), Set.of()));
+
+        PrefixIndex.TopK top = new PrefixIndex.TopK(PrefixIndex.MAX_RESULTS);
+        index.collect("creme", Set.of(), top);
+        assertEquals("Crème Brûlée", top.result().get(0).name());
+    }
+
+    @Test
+    void supplementaryCharactersSortWhereTheLookupExpectsThem() {
+        // U+1F600 and U+20000 are surrogate pairs in UTF-16 but sort after U+E000..U+FFFD in UTF-8
+        String[] suffixes = {"a", "\uE000", "\uFFFD", "\uD83D\uDE00", "\uD840\uDC00", "z"};
+        List<PrefixIndex.Entry> entries = new ArrayList<>();
+        long id = 1;
+        for (String first : suffixes) {
+            for (String second : suffixes) {
+                entries.add(PrefixIndex.Entry.of(id++, "cup " + first + second, 1));
+            }
+        }
+        PrefixIndex index = PrefixIndex.build(entries);
+
+        for (String first : suffixes) {
+            String prefix = "cup " + first;
+            Set<Long> expected = entries.stream()
+                    .filter(e -> e.key().startsWith(prefix))
+                    .map(PrefixIndex.Entry::id)
+                    .collect(Collectors.toSet());
+            assertEquals(expected, new HashSet<>(ids(index, prefix, Set.of())), prefix);
+        }
+        assertEquals(entries.size(), ids(index, "cup", Set.of(), 100).size());
+    }
+
+    private static List<Long> ids(PrefixIndex index, String prefix, Set<Long> excluded) {
+        return ids(index, prefix, excluded, PrefixIndex.MAX_RESULTS);
+    }
+
+    private static List<Long> ids(PrefixIndex index, String prefix, Set<Long> excluded, int limit) {
+        PrefixIndex.TopK top = new PrefixIndex.TopK(limit);
+        index.collect(prefix, excluded, top);
+        List<Long> ids = top.result().stream().map(PrefixIndex.Hit::id).toList();
+        assertTrue(ids.stream().noneMatch(excluded::contains));
+        return ids;
+    }
+
+    private static List<Long> bruteForce(List<PrefixIndex.Entry> entries, String prefix, Set<Long> excluded, int limit) {
+        return entries.stream()
+                .filter(e -> e.key().startsWith(prefix) && !excluded.contains(e.id()))
+                .sorted(Comparator.comparingInt(PrefixIndex.Entry::score).reversed()
+                        .thenComparingLong(PrefixIndex.Entry::id))
+                .limit(limit)
+                .map(PrefixIndex.Entry::id)
+                .collect(Collectors.toList());
+    }
+
+    // Counts membership checks, one per snapshot entry a lookup visits
+    private static final class CountingSet extends AbstractSet<Long> {
+
+        private final Set<Long> delegate;
+        private long lookups;
+
+        CountingSet(Set<Long> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            lookups++;
+            return delegate.contains(o);
+        }
+
+        @Override
+        public Iterator<Long> iterator() {
+            return delegate.iterator();
+        }
+
+        @Override
+        public int size() {
+            return delegate.size();
+        }
+    }
+}
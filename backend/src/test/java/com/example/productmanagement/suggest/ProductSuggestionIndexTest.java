@@ -0,0 +1,106 @@
+package com.example.productmanagement.suggest;
+
+import com.example.productmanagement.event.ProductChangedEvent;
+import com.example.productmanagement.repository.ProductNameView;
+import com.example.productmanagement.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class ProductSuggestionIndexTest {
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final ProductSuggestionIndex index = new ProductSuggestionIndex(productRepository);
+
+    @Test
+    void changesDuringARebuildSurviveTheSwap() {
+        when(productRepository.findNameViewsAfter(anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            // The load has already read these rows when the writes land
+            index.upsert(1, "Renamed Lamp", 5);
+            index.remove(2);
+            return new SliceImpl<>(List.of(view(1, "Old Lamp", 5), view(2, "Gone Lamp", 5), view(3, "Kept Lamp", 5)),
+                    invocation.getArgument(1), false);
+        });
+
+        index.rebuild();
+
+        assertEquals(List.of(1L), ids("renamed"));
+        assertEquals(List.of(), ids("old"));
+        assertEquals(List.of(), ids("gone"));
+        assertEquals(List.of(3L), ids("kept"));
+
+        index.remove(1);
+        assertEquals(List.of(), ids("renamed"));
+    }
+
+    @Test
+    void changesAreQueuedAndRefreshedInOneQuery() {
+        when(productRepository.findNameViewsByIdIn(anyCollection()))
+                .thenReturn(List.of(view(1, "New Lamp", 5)));
+
+        index.upsert(2, "Gone Lamp", 5);
+        index.onProductChanged(new ProductChangedEvent(1L, ProductChangedEvent.ChangeType.UPDATED));
+        index.onProductChanged(new ProductChangedEvent(1L, ProductChangedEvent.ChangeType.UPDATED));
+        index.onProductChanged(new ProductChangedEvent(2L, ProductChangedEvent.ChangeType.DELETED));
+        // The writer's thread does no reads
+        verifyNoInteractions(productRepository);
+
+        index.refreshPending();
+
+        verify(productRepository, times(1)).findNameViewsByIdIn(anyCollection());
+        assertEquals(List.of(1L), ids("new"));
+        assertEquals(List.of(), ids("gone"));
+    }
+
+    @Test
+    void changeCommittedDuringARefreshIsReadAgain() {
+        when(productRepository.findNameViewsByIdIn(anyCollection()))
+                .thenAnswer(invocation -> {
+                    // Another write to the same product commits after this read
+                    index.onProductChanged(new ProductChangedEvent(1L, ProductChangedEvent.ChangeType.UPDATED));
+                    return List.of(view(1, "Old Lamp", 5));
+                })
+                .thenReturn(List.of(view(1, "New Lamp", 5)));
+
+        index.onProductChanged(new ProductChangedEvent(1L, ProductChangedEvent.ChangeType.UPDATED));
+        index.refreshPending();
+
+        assertEquals(List.of(1L), ids("new"));
+        assertEquals(List.of(), ids("old"));
+    }
+
+    private List<Long> ids(String prefix) {
+        return index.suggest(prefix, 10).stream().map(PrefixIndex.Hit::id).toList();
+    }
+
+    private static ProductNameView view(long id, String name, int quantity) {
+        return new ProductNameView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public Integer getQuantity() {
+                return quantity;
+            }
+        };
+    }
+}